@@ -21,13 +21,14 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.Serializable;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 
 
 public class BacktrackingSudokuSolver implements SudokuSolver, Cloneable, Serializable {
+    private static final long serialVersionUID = -8850346863759715484L;
     private static final Logger logger = LogManager.getLogger(BacktrackingSudokuSolver.class);
 
     public BacktrackingSudokuSolver() {
@@ -37,18 +38,54 @@ public class BacktrackingSudokuSolver implements SudokuSolver, Cloneable, Serial
         recursiveSolve(board);
     }
 
+    // the search writes into the board it explores, so queries run on a private copy that other threads
+    // reading the caller's board never see
     public boolean solvable(SudokuBoard board) {
-        SudokuBoard board1 = board.clone();
-        return recursiveSolve(board1);
+        return recursiveSolve(board.clone());
+    }
+
+    public int countSolutions(SudokuBoard board, int limit) {
+        if (limit < 1) {
+            logger.error("Solution limit must be positive");
+            throw new IllegalArgumentException("Solution limit must be positive.");
+        }
+        if (!board.checkBoard()) {
+            return 0;
+        }
+        return recursiveCount(board.clone(), limit);
+    }
+
+    private int recursiveCount(SudokuBoard board, int limit) {
+        int size = board.getSize();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
+                if (board.get(row, col) == 0) {
+                    int total = 0;
+                    for (int value = 1; value <= size && total < limit; value++) {
+                        board.set(row, col, value);
+                        if (board.checkBoard()) {
+                            total += recursiveCount(board, limit - total);
+                        }
+                    }
+                    board.set(row, col, 0);
+                    return total;
+                }
+            }
+        }
+        return 1;
     }
 
     private boolean recursiveSolve(SudokuBoard board) {
-        for (int row = 0; row < 9; row++) {
-            for (int col = 0; col < 9; col++) {
+        int size = board.getSize();
+        for (int row = 0; row < size; row++) {
+            for (int col = 0; col < size; col++) {
                 if (board.get(row, col) == 0) {
-                    List<Integer> numbers = Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9);
+                    List<Integer> numbers = new ArrayList<>(size);
+                    for (int value = 1; value <= size; value++) {
+                        numbers.add(value);
+                    }
                     Collections.shuffle(numbers);
-                    for (int i = 0; i < 9; i++) {
+                    for (int i = 0; i < size; i++) {
                         board.set(row, col, numbers.get(i));
                         if (board.checkBoard() && recursiveSolve(board)) {
                             return true;
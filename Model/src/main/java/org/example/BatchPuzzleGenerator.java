@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+public class BatchPuzzleGenerator implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(BatchPuzzleGenerator.class);
+    private static final long POLL_MILLIS = 100;
+
+    private final SudokuSolver sudokuSolver;
+    private final int workers;
+    private final int queueCapacity;
+    private final ExecutorService executor;
+
+    public BatchPuzzleGenerator(SudokuSolver sudokuSolver) {
+        this(sudokuSolver, Runtime.getRuntime().availableProcessors(), 64);
+    }
+
+    public BatchPuzzleGenerator(SudokuSolver sudokuSolver, int workers, int queueCapacity) {
+        if (workers < 1 || queueCapacity < 1) {
+            logger.error("Invalid batch generator configuration");
+            throw new IllegalArgumentException("Workers and queue capacity must be positive.");
+        }
+        this.sudokuSolver = sudokuSolver;
+        this.workers = workers;
+        this.queueCapacity = queueCapacity;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "puzzle-generator-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void generateAll(int countPerDifficulty, BiConsumer<Difficulty, GeneratedPuzzle> consumer)
+            throws InterruptedException {
+        for (Difficulty difficulty : Difficulty.values()) {
+            generate(difficulty, countPerDifficulty, puzzle -> consumer.accept(difficulty, puzzle));
+        }
+    }
+
+    public void generate(Difficulty difficulty, int count, Consumer<GeneratedPuzzle> consumer)
+            throws InterruptedException {
+        BlockingQueue<GeneratedPuzzle> results = new ArrayBlockingQueue<>(queueCapacity);
+        AtomicInteger remaining = new AtomicInteger(count);
+        SplittableRandom seeds = new SplittableRandom();
+        List<Future<?>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < Math.min(workers, count); i++) {
+            long seed = seeds.nextLong();
+            futures.add(executor.submit(() -> {
+                SudokuGenerator generator = new SudokuGenerator(sudokuSolver.clone(), new Random(seed));
+                while (remaining.getAndDecrement() > 0) {
+                    results.put(generator.generate(difficulty));
+                }
+                return null;
+            }));
+        }
+        try {
+            int delivered = 0;
+            while (delivered < count) {
+                GeneratedPuzzle puzzle = results.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (puzzle != null) {
+                    consumer.accept(puzzle);
+                    delivered++;
+                } else {
+                    checkWorkers(futures);
+                }
+            }
+        } finally {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private void checkWorkers(List<Future<?>> futures) throws InterruptedException {
+        for (Future<?> future : futures) {
+            if (future.isDone() && !future.isCancelled()) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    logger.error("Puzzle generation failed", e.getCause());
+                    throw new RuntimeException("Puzzle generation failed", e.getCause());
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
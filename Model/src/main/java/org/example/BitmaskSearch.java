@@ -0,0 +1,329 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/** Backtracking over row, column and box bitsets; works for every box size a board supports. */
+final class BitmaskSearch {
+    private static final int CONTRADICTION = -2;
+
+    private final SudokuGeometry geometry;
+    private final int size;
+    private final int all;
+    private final int[] rowOf;
+    private final int[] colOf;
+    private final int[] boxOf;
+    private final int[][] units;
+    private final int[] cells;
+    private final int[] rowMasks;
+    private final int[] colMasks;
+    private final int[] boxMasks;
+    private final int[] empty;
+    private int emptyCount;
+    private final boolean randomized;
+    private AtomicBoolean cancelled;
+    private long nodeLimit = Long.MAX_VALUE;
+    private long nodes;
+
+    BitmaskSearch(SudokuGeometry geometry, boolean randomized) {
+        this.geometry = geometry;
+        this.size = geometry.size;
+        this.all = geometry.all;
+        this.rowOf = geometry.rowOf;
+        this.colOf = geometry.colOf;
+        this.boxOf = geometry.boxOf;
+        this.units = geometry.units;
+        this.cells = new int[geometry.cells];
+        this.rowMasks = new int[size];
+        this.colMasks = new int[size];
+        this.boxMasks = new int[size];
+        this.empty = new int[geometry.cells];
+        this.randomized = randomized;
+    }
+
+    BitmaskSearch(BitmaskSearch other) {
+        this(other.geometry, other.randomized);
+        System.arraycopy(other.cells, 0, cells, 0, cells.length);
+        System.arraycopy(other.rowMasks, 0, rowMasks, 0, size);
+        System.arraycopy(other.colMasks, 0, colMasks, 0, size);
+        System.arraycopy(other.boxMasks, 0, boxMasks, 0, size);
+        System.arraycopy(other.empty, 0, empty, 0, other.emptyCount);
+        this.emptyCount = other.emptyCount;
+        this.cancelled = other.cancelled;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void setCancelled(AtomicBoolean cancelled) {
+        this.cancelled = cancelled;
+    }
+
+    AtomicBoolean cancelledFlag() {
+        return cancelled;
+    }
+
+    /**
+     * Caps the number of placements {@link #search()} may try; see {@link #limitReached()}.
+     */
+    void setNodeLimit(long nodeLimit) {
+        this.nodeLimit = nodeLimit;
+    }
+
+    boolean limitReached() {
+        return nodes >= nodeLimit;
+    }
+
+    boolean load(SudokuBoard board) {
+        emptyCount = 0;
+        for (int i = 0; i < cells.length; i++) {
+            int value = board.get(rowOf[i], colOf[i]);
+            cells[i] = value;
+            if (value == 0) {
+                empty[emptyCount++] = i;
+            } else if (!place(i, value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void writeTo(SudokuBoard board) {
+        for (int i = 0; i < cells.length; i++) {
+            if (board.get(rowOf[i], colOf[i]) == 0) {
+                board.set(rowOf[i], colOf[i], cells[i]);
+            }
+        }
+    }
+
+    boolean search() {
+        if (emptyCount == 0) {
+            return true;
+        }
+        if (cancelled != null && cancelled.get() || nodes >= nodeLimit) {
+            return false;
+        }
+        // on 9x9 boards the extra unit scan costs more than it saves
+        if (size > SudokuUnits.SIZE) {
+            int forced = hiddenSingle();
+            if (forced == CONTRADICTION) {
+                return false;
+            }
+            if (forced >= 0) {
+                return searchForced(forced / size, forced % size + 1);
+            }
+        }
+        int cell = takeCell();
+        if (cell < 0) {
+            return false;
+        }
+
+        int candidates = candidates(cell);
+        int offset = randomOffset();
+        int rotated = rotate(candidates, offset);
+        while (rotated != 0) {
+            int bit = Integer.numberOfTrailingZeros(rotated);
+            rotated &= rotated - 1;
+            int value = (bit + offset) % size + 1;
+            place(cell, value);
+            nodes++;
+            if (search()) {
+                return true;
+            }
+            unplace(cell, value);
+        }
+        emptyCount++;
+        return false;
+    }
+
+    private boolean searchForced(int cell, int value) {
+        takeEmpty(cell);
+        place(cell, value);
+        nodes++;
+        if (search()) {
+            return true;
+        }
+        unplace(cell, value);
+        emptyCount++;
+        return false;
+    }
+
+    /**
+     * Looks for a digit with a single possible cell in some unit. Returns {@code cell * size + digit index},
+     * -1 when there is none, or {@link #CONTRADICTION} when some unit has a digit with no place left.
+     */
+    private int hiddenSingle() {
+        for (int unit = 0; unit < units.length; unit++) {
+            int placed = unitMask(unit);
+            int once = 0;
+            int twice = 0;
+            for (int cell : units[unit]) {
+                if (cells[cell] == 0) {
+                    int candidates = candidates(cell);
+                    twice |= once & candidates;
+                    once |= candidates;
+                }
+            }
+            if ((all & ~placed & ~once) != 0) {
+                return CONTRADICTION;
+            }
+            int singles = once & ~twice;
+            if (singles != 0) {
+                int bit = singles & -singles;
+                for (int cell : units[unit]) {
+                    if (cells[cell] == 0 && (candidates(cell) & bit) != 0) {
+                        return cell * size + Integer.numberOfTrailingZeros(bit);
+                    }
+                }
+            }
+        }
+        return -1;
+    }
+
+    private int unitMask(int unit) {
+        if (unit < size) {
+            return rowMasks[unit];
+        }
+        return unit < 2 * size ? colMasks[unit - size] : boxMasks[unit - 2 * size];
+    }
+
+    /**
+     * Counts solutions up to {@code limit}. Once cancelled or past the node limit the count stops early and is only
+     * a lower bound; check {@link #limitReached()} before trusting it.
+     */
+    int count(int limit) {
+        if (emptyCount == 0) {
+            return 1;
+        }
+        if (cancelled != null && cancelled.get() || nodes >= nodeLimit) {
+            return 0;
+        }
+        if (size > SudokuUnits.SIZE) {
+            int forced = hiddenSingle();
+            if (forced == CONTRADICTION) {
+                return 0;
+            }
+            if (forced >= 0) {
+                return countForced(forced / size, forced % size + 1, limit);
+            }
+        }
+        int cell = takeCell();
+        if (cell < 0) {
+            return 0;
+        }
+        int total = 0;
+        int candidates = candidates(cell);
+        while (candidates != 0 && total < limit) {
+            int value = Integer.numberOfTrailingZeros(candidates) + 1;
+            candidates &= candidates - 1;
+            place(cell, value);
+            nodes++;
+            total += count(limit - total);
+            unplace(cell, value);
+        }
+        emptyCount++;
+        return total;
+    }
+
+    private int countForced(int cell, int value, int limit) {
+        takeEmpty(cell);
+        place(cell, value);
+        nodes++;
+        int total = count(limit);
+        unplace(cell, value);
+        emptyCount++;
+        return total;
+    }
+
+    private void takeEmpty(int cell) {
+        int index = 0;
+        while (empty[index] != cell) {
+            index++;
+        }
+        empty[index] = empty[--emptyCount];
+        empty[emptyCount] = cell;
+    }
+
+    boolean isComplete() {
+        return emptyCount == 0;
+    }
+
+    int takeCell() {
+        int chosen = chooseCell();
+        if (chosen < 0) {
+            return -1;
+        }
+        int cell = empty[chosen];
+        empty[chosen] = empty[--emptyCount];
+        empty[emptyCount] = cell;
+        return cell;
+    }
+
+    int randomOffset() {
+        return randomized ? ThreadLocalRandom.current().nextInt(size) : 0;
+    }
+
+    int rotate(int candidates, int offset) {
+        return (candidates >>> offset | candidates << (size - offset)) & all;
+    }
+
+    private int chooseCell() {
+        int best = -1;
+        int bestCount = size + 1;
+        for (int i = 0; i < emptyCount; i++) {
+            int count = Integer.bitCount(candidates(empty[i]));
+            if (count < bestCount) {
+                if (count == 0) {
+                    return -1;
+                }
+                best = i;
+                bestCount = count;
+                if (count == 1) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    int candidates(int cell) {
+        return ~(rowMasks[rowOf[cell]] | colMasks[colOf[cell]] | boxMasks[boxOf[cell]]) & all;
+    }
+
+    boolean place(int cell, int value) {
+        int bit = 1 << (value - 1);
+        if (((rowMasks[rowOf[cell]] | colMasks[colOf[cell]] | boxMasks[boxOf[cell]]) & bit) != 0) {
+            return false;
+        }
+        rowMasks[rowOf[cell]] |= bit;
+        colMasks[colOf[cell]] |= bit;
+        boxMasks[boxOf[cell]] |= bit;
+        cells[cell] = value;
+        return true;
+    }
+
+    private void unplace(int cell, int value) {
+        int bit = ~(1 << (value - 1));
+        rowMasks[rowOf[cell]] &= bit;
+        colMasks[colOf[cell]] &= bit;
+        boxMasks[boxOf[cell]] &= bit;
+        cells[cell] = 0;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import com.google.common.base.MoreObjects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class BitmaskSudokuSolver implements SudokuSolver, Cloneable, Serializable {
+    private static final Logger logger = LogManager.getLogger(BitmaskSudokuSolver.class);
+
+    public BitmaskSudokuSolver() {
+    }
+
+    public void solve(SudokuBoard board) {
+        // randomised search has heavy-tailed run times on large boards, so restart with a doubling node budget
+        long nodeLimit = board.getGeometry().cells * 4L;
+        while (true) {
+            BitmaskSearch search = new BitmaskSearch(board.getGeometry(), true);
+            search.setNodeLimit(nodeLimit);
+            if (!search.load(board)) {
+                return;
+            }
+            if (search.search()) {
+                search.writeTo(board);
+                return;
+            }
+            if (!search.limitReached()) {
+                return;
+            }
+            nodeLimit *= 2;
+        }
+    }
+
+    public boolean solvable(SudokuBoard board) {
+        return solvable(board, null);
+    }
+
+    /**
+     * Checks solvability like {@link #solvable(SudokuBoard)}, giving up as soon as {@code cancelled} is set.
+     *
+     * @param board board to check, left unchanged
+     * @param cancelled flag another thread sets to stop the search, or null to run to completion
+     * @return whether the board can be completed; meaningless once {@code cancelled} has been set
+     */
+    @Override
+    public boolean solvable(SudokuBoard board, AtomicBoolean cancelled) {
+        BitmaskSearch search = new BitmaskSearch(board.getGeometry(), false);
+        search.setCancelled(cancelled);
+        return search.load(board) && search.search();
+    }
+
+    public int countSolutions(SudokuBoard board, int limit) {
+        return countSolutions(board, limit, Long.MAX_VALUE);
+    }
+
+    /**
+     * Counts solutions like {@link #countSolutions(SudokuBoard, int)}, but gives up after a number of placements.
+     * Proving that a sparse 25x25 puzzle has no second solution can take far longer than solving it.
+     *
+     * @param board board to count, left unchanged
+     * @param limit number of solutions after which counting stops
+     * @param nodeLimit maximum number of placements to try
+     * @return number of solutions found, at most {@code limit}, or -1 when the placements ran out first
+     * @throws IllegalArgumentException when {@code limit} or {@code nodeLimit} is not positive
+     */
+    public int countSolutions(SudokuBoard board, int limit, long nodeLimit) {
+        if (limit < 1 || nodeLimit < 1) {
+            logger.error("Solution and node limits must be positive");
+            throw new IllegalArgumentException("Solution and node limits must be positive.");
+        }
+        BitmaskSearch search = new BitmaskSearch(board.getGeometry(), false);
+        if (!search.load(board)) {
+            return 0;
+        }
+        search.setNodeLimit(nodeLimit);
+        int found = search.count(limit);
+        return found < limit && search.limitReached() ? -1 : found;
+    }
+
+    @Override
+    public BitmaskSudokuSolver clone() {
+        BitmaskSudokuSolver bitmaskSudokuSolver;
+
+        try {
+            bitmaskSudokuSolver = (BitmaskSudokuSolver) super.clone();
+        } catch (CloneNotSupportedException e) {
+            logger.error(BitmaskSudokuSolver.class.getName() + " does not support cloning.", e);
+            throw new AssertionError(e);
+        }
+
+        return bitmaskSudokuSolver;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        return getClass() == obj.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getClass());
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Solves text files with one 81-character puzzle per line ({@code .} or {@code 0} for blanks). Lines are read
+ * in batches, solved on a fixed pool where every worker owns a clone of the solver, and written back in input
+ * order as one 81-digit solution per line. Lines that cannot be parsed produce {@value #INVALID} and puzzles
+ * without a solution produce {@value #UNSOLVABLE}; blank lines are skipped.
+ */
+public class BulkSolvePipeline implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(BulkSolvePipeline.class);
+    static final String INVALID = "invalid";
+    static final String UNSOLVABLE = "unsolvable";
+    private static final int IN_FLIGHT_PER_WORKER = 4;
+
+    private final SudokuSolver sudokuSolver;
+    private final int workers;
+    private final int batchSize;
+    private final ExecutorService executor;
+    private final ThreadLocal<SudokuBoard> workerBoards;
+
+    public BulkSolvePipeline(SudokuSolver sudokuSolver) {
+        this(sudokuSolver, Runtime.getRuntime().availableProcessors(), 512);
+    }
+
+    public BulkSolvePipeline(SudokuSolver sudokuSolver, int workers, int batchSize) {
+        if (workers < 1 || batchSize < 1) {
+            logger.error("Invalid bulk solve configuration");
+            throw new IllegalArgumentException("Workers and batch size must be positive.");
+        }
+        this.sudokuSolver = sudokuSolver;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.workerBoards = ThreadLocal.withInitial(() -> new SudokuBoard(this.sudokuSolver.clone()));
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-solver-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public BulkSolveReport solve(Path input, Path output) throws IOException, InterruptedException {
+        try (BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.US_ASCII);
+             BufferedWriter writer = Files.newBufferedWriter(output, StandardCharsets.US_ASCII)) {
+            return solve(reader, writer);
+        }
+    }
+
+    public BulkSolveReport solve(Reader input, Writer output) throws IOException, InterruptedException {
+        BufferedReader reader = input instanceof BufferedReader buffered ? buffered : new BufferedReader(input);
+        long start = System.nanoTime();
+        // futures are written in submission order; the window bounds memory no matter how long the file is
+        Deque<Future<BatchResult>> inFlight = new ArrayDeque<>();
+        BatchResult totals = new BatchResult(0);
+        try {
+            List<String> batch = new ArrayList<>(batchSize);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                batch.add(line);
+                if (batch.size() == batchSize) {
+                    submit(batch, inFlight);
+                    batch = new ArrayList<>(batchSize);
+                    if (inFlight.size() >= workers * IN_FLIGHT_PER_WORKER) {
+                        drain(inFlight.removeFirst(), output, totals);
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                submit(batch, inFlight);
+            }
+            while (!inFlight.isEmpty()) {
+                drain(inFlight.removeFirst(), output, totals);
+            }
+            output.flush();
+        } finally {
+            for (Future<BatchResult> future : inFlight) {
+                future.cancel(true);
+            }
+        }
+        BulkSolveReport report = new BulkSolveReport(totals.solved, totals.unsolvable, totals.invalid,
+                System.nanoTime() - start);
+        logger.info(String.format("Solved %d puzzles in %.3f s (%.0f puzzles per second)",
+                report.getPuzzles(), report.getSeconds(), report.getPuzzlesPerSecond()));
+        return report;
+    }
+
+    private void submit(List<String> batch, Deque<Future<BatchResult>> inFlight) {
+        inFlight.addLast(executor.submit(() -> solveBatch(batch)));
+    }
+
+    private void drain(Future<BatchResult> future, Writer output, BatchResult totals)
+            throws IOException, InterruptedException {
+        BatchResult result;
+        try {
+            result = future.get();
+        } catch (ExecutionException e) {
+            logger.error("Bulk solve worker failed", e.getCause());
+            throw new RuntimeException("Bulk solve worker failed", e.getCause());
+        }
+        output.append(result.text);
+        totals.solved += result.solved;
+        totals.unsolvable += result.unsolvable;
+        totals.invalid += result.invalid;
+    }
+
+    private BatchResult solveBatch(List<String> lines) {
+        SudokuBoard board = workerBoards.get();
+        BatchResult result = new BatchResult(lines.size());
+        byte[] cells = new byte[SudokuUnits.CELLS];
+        for (String line : lines) {
+            if (!parse(line.strip(), cells)) {
+                result.text.append(INVALID).append('\n');
+                result.invalid++;
+                continue;
+            }
+            board.restore(cells);
+            if (board.checkBoard()) {
+                board.getSudokuSolver().solve(board);
+            }
+            if (appendSolution(board, result.text)) {
+                result.solved++;
+            } else {
+                result.text.append(UNSOLVABLE).append('\n');
+                result.unsolvable++;
+            }
+        }
+        return result;
+    }
+
+    static boolean parse(String line, byte[] cells) {
+        if (line.length() != SudokuUnits.CELLS) {
+            return false;
+        }
+        for (int i = 0; i < SudokuUnits.CELLS; i++) {
+            char c = line.charAt(i);
+            if (c == '.' || c == '0') {
+                cells[i] = 0;
+            } else if (c >= '1' && c <= '9') {
+                cells[i] = (byte) (c - '0');
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean appendSolution(SudokuBoard board, StringBuilder text) {
+        if (!board.checkBoard()) {
+            return false;
+        }
+        int mark = text.length();
+        for (int row = 0; row < SudokuUnits.SIZE; row++) {
+            for (int col = 0; col < SudokuUnits.SIZE; col++) {
+                int value = board.get(row, col);
+                if (value == 0) {
+                    text.setLength(mark);
+                    return false;
+                }
+                text.append((char) ('0' + value));
+            }
+        }
+        text.append('\n');
+        return true;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: BulkSolvePipeline <input> <output> [workers]");
+            return;
+        }
+        int workers = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+        SudokuSolver solver = new ConstraintPropagationSudokuSolver();
+        try (BulkSolvePipeline pipeline = new BulkSolvePipeline(solver, workers, 512)) {
+            System.out.println(pipeline.solve(Path.of(args[0]), Path.of(args[1])));
+        }
+    }
+
+    private static final class BatchResult {
+        private final StringBuilder text;
+        private long solved;
+        private long unsolvable;
+        private long invalid;
+
+        private BatchResult(int lines) {
+            this.text = new StringBuilder(lines * (SudokuUnits.CELLS + 1));
+        }
+    }
+}
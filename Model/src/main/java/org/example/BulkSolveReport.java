@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import com.google.common.base.MoreObjects;
+
+public class BulkSolveReport {
+    private final long solved;
+    private final long unsolvable;
+    private final long invalid;
+    private final long elapsedNanos;
+
+    BulkSolveReport(long solved, long unsolvable, long invalid, long elapsedNanos) {
+        this.solved = solved;
+        this.unsolvable = unsolvable;
+        this.invalid = invalid;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getPuzzles() {
+        return solved + unsolvable + invalid;
+    }
+
+    public long getSolved() {
+        return solved;
+    }
+
+    public long getUnsolvable() {
+        return unsolvable;
+    }
+
+    public long getInvalid() {
+        return invalid;
+    }
+
+    public double getSeconds() {
+        return elapsedNanos / 1e9;
+    }
+
+    public double getPuzzlesPerSecond() {
+        return elapsedNanos == 0 ? 0 : getPuzzles() / getSeconds();
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("puzzles", getPuzzles())
+                .add("solved", solved)
+                .add("unsolvable", unsolvable)
+                .add("invalid", invalid)
+                .add("seconds", getSeconds())
+                .add("puzzlesPerSecond", Math.round(getPuzzlesPerSecond()))
+                .toString();
+    }
+}
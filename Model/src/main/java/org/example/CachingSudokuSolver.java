@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import com.google.common.base.MoreObjects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Serializable;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Remembers solvable results of a delegate solver in a bounded LRU map keyed by the board's Zobrist hash.
+ * Only {@link #solvable(SudokuBoard)} is cached; solving and counting always reach the delegate.
+ */
+public class CachingSudokuSolver implements SudokuSolver, Cloneable, Serializable {
+    private static final Logger logger = LogManager.getLogger(CachingSudokuSolver.class);
+
+    private final SudokuSolver delegate;
+    private final int capacity;
+    private transient Map<Long, CachedResult> cache;
+    private transient long hits;
+    private transient long misses;
+
+    public CachingSudokuSolver(SudokuSolver delegate, int capacity) {
+        if (delegate == null || capacity < 1) {
+            logger.error("Invalid caching solver configuration");
+            throw new IllegalArgumentException("Delegate must be set and capacity must be positive.");
+        }
+        this.delegate = delegate;
+        this.capacity = capacity;
+    }
+
+    public void solve(SudokuBoard board) {
+        delegate.solve(board);
+    }
+
+    public boolean solvable(SudokuBoard board) {
+        return solvable(board, null);
+    }
+
+    /**
+     * Checks solvability like {@link #solvable(SudokuBoard)}, passing {@code cancelled} on to the delegate.
+     * Answers given after cancellation are not cached.
+     *
+     * @param board board to check, left unchanged
+     * @param cancelled flag another thread sets to stop the search, or null to run to completion
+     * @return whether the board can be completed; meaningless once {@code cancelled} has been set
+     */
+    @Override
+    public boolean solvable(SudokuBoard board, AtomicBoolean cancelled) {
+        long key = board.getZobristHash();
+        synchronized (this) {
+            CachedResult cached = getCache().get(key);
+            // the cells are kept alongside the result so a hash collision can never return a wrong answer
+            if (cached != null && board.hasCells(cached.cells)) {
+                hits++;
+                return cached.solvable;
+            }
+            misses++;
+        }
+        byte[] cells = board.snapshot();
+        boolean solvable = delegate.solvable(board, cancelled);
+        if (cancelled != null && cancelled.get()) {
+            return solvable;
+        }
+        synchronized (this) {
+            getCache().put(key, new CachedResult(cells, solvable));
+        }
+        return solvable;
+    }
+
+    public int countSolutions(SudokuBoard board, int limit) {
+        return delegate.countSolutions(board, limit);
+    }
+
+    private Map<Long, CachedResult> getCache() {
+        if (cache == null) {
+            cache = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, CachedResult> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+        return cache;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    public synchronized int getSize() {
+        return cache == null ? 0 : cache.size();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized void clearCache() {
+        cache = null;
+        hits = 0;
+        misses = 0;
+    }
+
+    @Override
+    public CachingSudokuSolver clone() {
+        return new CachingSudokuSolver(delegate.clone(), capacity);
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("delegate", delegate)
+                .add("capacity", capacity)
+                .add("hits", getHits())
+                .add("misses", getMisses())
+                .toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final CachingSudokuSolver other = (CachingSudokuSolver) obj;
+        return capacity == other.capacity && delegate.equals(other.delegate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(delegate, capacity);
+    }
+
+    private static final class CachedResult {
+        private final byte[] cells;
+        private final boolean solvable;
+
+        private CachedResult(byte[] cells, boolean solvable) {
+            this.cells = cells;
+            this.solvable = solvable;
+        }
+    }
+}
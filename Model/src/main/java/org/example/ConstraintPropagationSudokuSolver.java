@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import com.google.common.base.MoreObjects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class ConstraintPropagationSudokuSolver implements SudokuSolver, Cloneable, Serializable {
+    private static final Logger logger = LogManager.getLogger(ConstraintPropagationSudokuSolver.class);
+
+    public ConstraintPropagationSudokuSolver() {
+    }
+
+    public void solve(SudokuBoard board) {
+        PropagationSearch search = new PropagationSearch(true);
+        boolean solved = search.load(board) && search.search();
+        if (solved) {
+            search.writeTo(board);
+        }
+    }
+
+    public boolean solvable(SudokuBoard board) {
+        PropagationSearch search = new PropagationSearch(false);
+        return search.load(board) && search.search();
+    }
+
+    public int countSolutions(SudokuBoard board, int limit) {
+        if (limit < 1) {
+            logger.error("Solution limit must be positive");
+            throw new IllegalArgumentException("Solution limit must be positive.");
+        }
+        PropagationSearch search = new PropagationSearch(false);
+        return search.load(board) ? search.count(limit) : 0;
+    }
+
+    /**
+     * Counts the branching decisions a deterministic search makes before it solves the board.
+     *
+     * @param board board to examine; it is not modified
+     * @return number of guesses, 0 when propagation alone solves the board, or -1 when it has no solution
+     */
+    public int countGuesses(SudokuBoard board) {
+        PropagationSearch search = new PropagationSearch(false);
+        return search.load(board) && search.search() ? search.getGuesses() : -1;
+    }
+
+    @Override
+    public ConstraintPropagationSudokuSolver clone() {
+        ConstraintPropagationSudokuSolver constraintPropagationSudokuSolver;
+
+        try {
+            constraintPropagationSudokuSolver = (ConstraintPropagationSudokuSolver) super.clone();
+        } catch (CloneNotSupportedException e) {
+            logger.error(ConstraintPropagationSudokuSolver.class.getName() + " does not support cloning.", e);
+            throw new AssertionError(e);
+        }
+
+        return constraintPropagationSudokuSolver;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        return getClass() == obj.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getClass());
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+final class DancingLinks {
+    private static final int SIZE = 9;
+    private static final int CELLS = SIZE * SIZE;
+    private static final int CANDIDATES = CELLS * SIZE;
+    private static final int COLUMNS = CELLS * 4;
+    private static final int NODES = 1 + COLUMNS + CANDIDATES * 4;
+    private static final int ROOT = 0;
+
+    private final int[] left = new int[NODES];
+    private final int[] right = new int[NODES];
+    private final int[] up = new int[NODES];
+    private final int[] down = new int[NODES];
+    private final int[] column = new int[NODES];
+    private final int[] candidate = new int[NODES];
+    private final int[] size = new int[COLUMNS + 1];
+    private final int[] solution = new int[CELLS];
+    private int depth;
+
+    DancingLinks(boolean randomized) {
+        for (int c = 0; c <= COLUMNS; c++) {
+            left[c] = c - 1;
+            right[c] = c + 1;
+            up[c] = c;
+            down[c] = c;
+        }
+        left[ROOT] = COLUMNS;
+        right[COLUMNS] = ROOT;
+
+        int[] order = new int[CANDIDATES];
+        for (int i = 0; i < CANDIDATES; i++) {
+            order[i] = i;
+        }
+        if (randomized) {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int i = CANDIDATES - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int tmp = order[i];
+                order[i] = order[j];
+                order[j] = tmp;
+            }
+        }
+
+        int node = COLUMNS + 1;
+        for (int i = 0; i < CANDIDATES; i++) {
+            int id = order[i];
+            int cell = id / SIZE;
+            int digit = id % SIZE;
+            int row = cell / SIZE;
+            int col = cell % SIZE;
+            final int first = node;
+            appendNode(node++, 1 + cell, id);
+            appendNode(node++, 1 + CELLS + row * SIZE + digit, id);
+            appendNode(node++, 1 + 2 * CELLS + col * SIZE + digit, id);
+            int box = row / 3 * 3 + col / 3;
+            appendNode(node++, 1 + 3 * CELLS + box * SIZE + digit, id);
+            for (int n = first; n < node; n++) {
+                left[n] = n == first ? node - 1 : n - 1;
+                right[n] = n == node - 1 ? first : n + 1;
+            }
+        }
+    }
+
+    private void appendNode(int node, int col, int id) {
+        column[node] = col;
+        candidate[node] = id;
+        up[node] = up[col];
+        down[node] = col;
+        down[up[col]] = node;
+        up[col] = node;
+        size[col]++;
+    }
+
+    boolean load(SudokuBoard board) {
+        SudokuUnits.requireStandard(board, DancingLinksSudokuSolver.class);
+        depth = 0;
+        for (int cell = 0; cell < CELLS; cell++) {
+            int value = board.get(cell / SIZE, cell % SIZE);
+            if (value != 0 && !select(cell * SIZE + value - 1)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean select(int id) {
+        int cellColumn = 1 + id / SIZE;
+        for (int node = down[cellColumn]; node != cellColumn; node = down[node]) {
+            if (candidate[node] == id) {
+                cover(column[node]);
+                for (int n = right[node]; n != node; n = right[n]) {
+                    cover(column[n]);
+                }
+                solution[depth++] = id;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void writeTo(SudokuBoard board) {
+        for (int i = 0; i < depth; i++) {
+            int cell = solution[i] / SIZE;
+            int row = cell / SIZE;
+            int col = cell % SIZE;
+            if (board.get(row, col) == 0) {
+                board.set(row, col, solution[i] % SIZE + 1);
+            }
+        }
+    }
+
+    boolean search() {
+        if (right[ROOT] == ROOT) {
+            return true;
+        }
+        int col = chooseColumn();
+        if (size[col] == 0) {
+            return false;
+        }
+        cover(col);
+        for (int node = down[col]; node != col; node = down[node]) {
+            solution[depth++] = candidate[node];
+            for (int n = right[node]; n != node; n = right[n]) {
+                cover(column[n]);
+            }
+            if (search()) {
+                return true;
+            }
+            for (int n = left[node]; n != node; n = left[n]) {
+                uncover(column[n]);
+            }
+            depth--;
+        }
+        uncover(col);
+        return false;
+    }
+
+    int count(int limit) {
+        if (right[ROOT] == ROOT) {
+            return 1;
+        }
+        int col = chooseColumn();
+        if (size[col] == 0) {
+            return 0;
+        }
+        int total = 0;
+        cover(col);
+        for (int node = down[col]; node != col && total < limit; node = down[node]) {
+            for (int n = right[node]; n != node; n = right[n]) {
+                cover(column[n]);
+            }
+            total += count(limit - total);
+            for (int n = left[node]; n != node; n = left[n]) {
+                uncover(column[n]);
+            }
+        }
+        uncover(col);
+        return total;
+    }
+
+    private int chooseColumn() {
+        int best = right[ROOT];
+        for (int col = right[best]; col != ROOT; col = right[col]) {
+            if (size[col] < size[best]) {
+                best = col;
+                if (size[best] <= 1) {
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    private void cover(int col) {
+        right[left[col]] = right[col];
+        left[right[col]] = left[col];
+        for (int row = down[col]; row != col; row = down[row]) {
+            for (int n = right[row]; n != row; n = right[n]) {
+                up[down[n]] = up[n];
+                down[up[n]] = down[n];
+                size[column[n]]--;
+            }
+        }
+    }
+
+    private void uncover(int col) {
+        for (int row = up[col]; row != col; row = up[row]) {
+            for (int n = left[row]; n != row; n = left[n]) {
+                size[column[n]]++;
+                up[down[n]] = n;
+                down[up[n]] = n;
+            }
+        }
+        right[left[col]] = col;
+        left[right[col]] = col;
+    }
+}
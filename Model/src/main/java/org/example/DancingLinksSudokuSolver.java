@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import com.google.common.base.MoreObjects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+public class DancingLinksSudokuSolver implements SudokuSolver, Cloneable, Serializable {
+    private static final Logger logger = LogManager.getLogger(DancingLinksSudokuSolver.class);
+
+    public DancingLinksSudokuSolver() {
+    }
+
+    public void solve(SudokuBoard board) {
+        DancingLinks links = new DancingLinks(true);
+        if (links.load(board) && links.search()) {
+            links.writeTo(board);
+        }
+    }
+
+    public boolean solvable(SudokuBoard board) {
+        DancingLinks links = new DancingLinks(false);
+        return links.load(board) && links.search();
+    }
+
+    public int countSolutions(SudokuBoard board, int limit) {
+        if (limit < 1) {
+            logger.error("Solution limit must be positive");
+            throw new IllegalArgumentException("Solution limit must be positive.");
+        }
+        DancingLinks links = new DancingLinks(false);
+        return links.load(board) ? links.count(limit) : 0;
+    }
+
+    @Override
+    public DancingLinksSudokuSolver clone() {
+        DancingLinksSudokuSolver dancingLinksSudokuSolver;
+
+        try {
+            dancingLinksSudokuSolver = (DancingLinksSudokuSolver) super.clone();
+        } catch (CloneNotSupportedException e) {
+            logger.error(DancingLinksSudokuSolver.class.getName() + " does not support cloning.", e);
+            throw new AssertionError(e);
+        }
+
+        return dancingLinksSudokuSolver;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        return getClass() == obj.getClass();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.getClass());
+    }
+}
@@ -13,10 +13,24 @@ import java.util.stream.Stream;
 public abstract class FileDao<T> implements Dao<T> {
 
     private final String directory;
+    private final BinaryCodec<T> codec;
     private static final Logger logger = LogManager.getLogger(FileDao.class);
 
     public FileDao(String directory) {
+        this(directory, null);
+    }
+
+    /**
+     * With a codec, objects are read and written only in its compact format. Files saved earlier with Java
+     * serialization are rejected by {@link #read(String)} until {@link #migrate(String)} has rewritten them.
+     *
+     * @param directory directory holding the files, created when it does not exist
+     * @param codec compact format to use, or null for Java serialization
+     * @throws UncheckedIOException when the directory cannot be created
+     */
+    public FileDao(String directory, BinaryCodec<T> codec) {
         this.directory = directory;
+        this.codec = codec;
         try {
             Files.createDirectories(Paths.get(directory));
         } catch (IOException e) {
@@ -28,9 +42,15 @@ public abstract class FileDao<T> implements Dao<T> {
     @SuppressWarnings("unchecked")
     public T read(String name) {
         Path filePath = Paths.get(this.directory, name);
-        try (FileInputStream fileInputStream = new FileInputStream(filePath.toFile());
-             ObjectInputStream objectInputStream = new ObjectInputStream(fileInputStream)) {
-            return (T) objectInputStream.readObject();
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(filePath.toFile()))) {
+            if (codec == null) {
+                return (T) new ObjectInputStream(inputStream).readObject();
+            }
+            if (isSerialized(inputStream)) {
+                logger.error("File was saved with Java serialization and has not been migrated: " + filePath);
+                throw new IllegalStateException("File must be migrated before it can be read: " + filePath);
+            }
+            return codec.read(new DataInputStream(inputStream));
         } catch (ClassNotFoundException e) {
             logger.error("Class not found while reading the file: " + filePath, e);
             throw new RuntimeException("Class not found during deserialization: " + filePath, e);
@@ -46,8 +66,51 @@ public abstract class FileDao<T> implements Dao<T> {
         }
     }
 
+    /**
+     * Rewrites a file saved with Java serialization in the codec's compact format, so that it can be read again.
+     *
+     * @param name name of the file within the directory
+     * @return whether the file was rewritten; false without a codec or when the file is already compact
+     * @throws RuntimeException when the file cannot be read or rewritten
+     */
+    @SuppressWarnings("unchecked")
+    public boolean migrate(String name) {
+        if (codec == null) {
+            return false;
+        }
+        Path filePath = Paths.get(this.directory, name);
+        T obj;
+        try (InputStream inputStream = new BufferedInputStream(new FileInputStream(filePath.toFile()))) {
+            if (!isSerialized(inputStream)) {
+                return false;
+            }
+            obj = (T) new ObjectInputStream(inputStream).readObject();
+        } catch (ClassNotFoundException e) {
+            logger.error("Class not found while migrating the file: " + filePath, e);
+            throw new RuntimeException("Class not found during deserialization: " + filePath, e);
+        } catch (IOException e) {
+            logger.error("I/O error while migrating the file: " + filePath, e);
+            throw new RuntimeException("I/O error while migrating the file: " + filePath, e);
+        }
+        writeEncoded(filePath, obj);
+        logger.info("Migrated " + filePath + " from Java serialization to the compact format");
+        return true;
+    }
+
+    private static boolean isSerialized(InputStream inputStream) throws IOException {
+        inputStream.mark(2);
+        int first = inputStream.read();
+        int second = inputStream.read();
+        inputStream.reset();
+        return (first << 8 | second) == (ObjectStreamConstants.STREAM_MAGIC & 0xFFFF);
+    }
+
     public void write(String name, T obj) {
         Path filePath = Paths.get(this.directory, name);
+        if (codec != null) {
+            writeEncoded(filePath, obj);
+            return;
+        }
         try (FileOutputStream fileOutputStream = new FileOutputStream(filePath.toFile());
              ObjectOutputStream objectOutputStream = new ObjectOutputStream(fileOutputStream)) {
             objectOutputStream.writeObject(obj);
@@ -60,6 +123,19 @@ public abstract class FileDao<T> implements Dao<T> {
         }
     }
 
+    private void writeEncoded(Path filePath, T obj) {
+        try (DataOutputStream outputStream = new DataOutputStream(
+                new BufferedOutputStream(new FileOutputStream(filePath.toFile())))) {
+            codec.write(outputStream, obj);
+        } catch (FileNotFoundException e) {
+            logger.error("File not found: " + filePath, e);
+            throw new RuntimeException("Failed to create or open the file: " + filePath, e);
+        } catch (IOException e) {
+            logger.error("I/O error while writing to file: " + filePath, e);
+            throw new RuntimeException("I/O error when writing to file: " + filePath, e);
+        }
+    }
+
     public List<String> names() {
         try (Stream<Path> files = Files.walk(Paths.get(this.directory)).filter(Files::isRegularFile)) {
             return files.map(Path::getFileName).map(Path::toString).toList();
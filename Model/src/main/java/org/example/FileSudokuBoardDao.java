@@ -5,4 +5,8 @@ public class FileSudokuBoardDao extends FileDao<SudokuBoard> implements Dao<Sudo
     public FileSudokuBoardDao(String directory) {
         super(directory);
     }
+
+    public FileSudokuBoardDao(String directory, SudokuSolver sudokuSolver) {
+        super(directory, new SudokuBoardCodec(sudokuSolver));
+    }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import com.google.common.base.MoreObjects;
+
+public class GeneratedPuzzle {
+    private final SudokuBoard board;
+    private final byte[] solution;
+    private final int clues;
+    private final int solverCalls;
+
+    public GeneratedPuzzle(SudokuBoard board, byte[] solution, int clues, int solverCalls) {
+        this.board = board;
+        this.solution = solution.clone();
+        this.clues = clues;
+        this.solverCalls = solverCalls;
+    }
+
+    public SudokuBoard getBoard() {
+        return board;
+    }
+
+    public byte[] getSolution() {
+        return solution.clone();
+    }
+
+    public int getClues() {
+        return clues;
+    }
+
+    public int getSolverCalls() {
+        return solverCalls;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("board", board)
+                .add("clues", clues)
+                .add("solverCalls", solverCalls)
+                .toString();
+    }
+}
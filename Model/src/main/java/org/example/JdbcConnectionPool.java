@@ -0,0 +1,246 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fixed-size pool of JDBC connections. Connections are opened lazily up to the pool size, run with auto-commit
+ * off, and keep their own cache of prepared statements, so callers only pay for connection setup and statement
+ * parsing once per pooled connection.
+ */
+public class JdbcConnectionPool implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(JdbcConnectionPool.class);
+    public static final int DEFAULT_POOL_SIZE = 4;
+    static final int STATEMENT_CACHE_SIZE = 32;
+    private static final long WAIT_MILLIS = 100;
+
+    private final String url;
+    private final String username;
+    private final String password;
+    private final int poolSize;
+    private final BlockingQueue<Lease> idle = new LinkedBlockingQueue<>();
+    private final AtomicInteger opened = new AtomicInteger();
+    private volatile boolean closed;
+
+    public JdbcConnectionPool(String url, String username, String password, int poolSize) {
+        if (poolSize < 1) {
+            logger.error("Connection pool size must be positive, got " + poolSize);
+            throw new IllegalArgumentException("Connection pool size must be positive, got " + poolSize);
+        }
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.poolSize = poolSize;
+    }
+
+    /**
+     * Builds a pool from the {@code sudoku.jdbc.url}, {@code sudoku.jdbc.user}, {@code sudoku.jdbc.password} and
+     * {@code sudoku.jdbc.poolSize} system properties, falling back to the matching {@code SUDOKU_JDBC_*}
+     * environment variables. URL, user and pool size default to a local PostgreSQL; the password has no default.
+     *
+     * @return a new pool for the configured database
+     * @throws IllegalStateException when no password is configured
+     * @throws IllegalArgumentException when the configured pool size is not a positive number
+     */
+    public static JdbcConnectionPool fromConfiguration() {
+        String poolSize = setting("sudoku.jdbc.poolSize", "SUDOKU_JDBC_POOL_SIZE",
+                String.valueOf(DEFAULT_POOL_SIZE));
+        try {
+            return fromConfiguration(Integer.parseInt(poolSize.trim()));
+        } catch (NumberFormatException e) {
+            logger.error("Invalid connection pool size: " + poolSize, e);
+            throw new IllegalArgumentException("Invalid connection pool size: " + poolSize, e);
+        }
+    }
+
+    /**
+     * Builds a pool of the given size for the database configured as described at {@link #fromConfiguration()}.
+     *
+     * @param poolSize maximum number of open connections
+     * @return a new pool for the configured database
+     * @throws IllegalStateException when no password is configured
+     */
+    public static JdbcConnectionPool fromConfiguration(int poolSize) {
+        String url = setting("sudoku.jdbc.url", "SUDOKU_JDBC_URL", "jdbc:postgresql://localhost:5432/postgres");
+        String username = setting("sudoku.jdbc.user", "SUDOKU_JDBC_USER", "postgres");
+        String password = setting("sudoku.jdbc.password", "SUDOKU_JDBC_PASSWORD", null);
+        if (password == null) {
+            logger.error("No database password configured");
+            throw new IllegalStateException("Set the sudoku.jdbc.password system property or the"
+                    + " SUDOKU_JDBC_PASSWORD environment variable.");
+        }
+        return new JdbcConnectionPool(url, username, password, poolSize);
+    }
+
+    private static String setting(String property, String variable, String fallback) {
+        String value = System.getProperty(property);
+        if (value == null) {
+            value = System.getenv(variable);
+        }
+        return value == null ? fallback : value;
+    }
+
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public int getOpenConnections() {
+        return opened.get();
+    }
+
+    /**
+     * Borrows a connection, opening a new one while the pool is below its size and waiting for a release
+     * otherwise. Closing the lease rolls back anything left uncommitted and returns the connection.
+     */
+    Lease acquire() {
+        try {
+            while (true) {
+                if (closed) {
+                    logger.error("Connection pool is closed");
+                    throw new IllegalStateException("Connection pool is closed");
+                }
+                Lease lease = idle.poll();
+                if (lease != null) {
+                    return lend(lease);
+                }
+                int count = opened.get();
+                if (count < poolSize && opened.compareAndSet(count, count + 1)) {
+                    return lend(open());
+                }
+                lease = idle.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                if (lease != null) {
+                    return lend(lease);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while waiting for a connection", e);
+            throw new RuntimeException("Interrupted while waiting for a connection", e);
+        }
+    }
+
+    private Lease lend(Lease lease) {
+        lease.pool = this;
+        return lease;
+    }
+
+    private Lease open() {
+        try {
+            Connection connection = DriverManager.getConnection(url, username, password);
+            connection.setAutoCommit(false);
+            return new Lease(connection);
+        } catch (SQLException e) {
+            opened.decrementAndGet();
+            logger.error("Could not get connection to the database", e);
+            throw new RuntimeException("Could not get connection to the database", e);
+        }
+    }
+
+    private void release(Lease lease) {
+        if (closed) {
+            discard(lease);
+            return;
+        }
+        idle.add(lease);
+        if (closed && idle.remove(lease)) {
+            discard(lease);
+        }
+    }
+
+    private void discard(Lease lease) {
+        opened.decrementAndGet();
+        try {
+            lease.closeStatements();
+            lease.connection.close();
+        } catch (SQLException e) {
+            logger.error("Could not close pooled connection", e);
+        }
+    }
+
+    /** Closes idle connections now and connections still on lease as soon as they are returned. */
+    @Override
+    public void close() {
+        closed = true;
+        Lease lease;
+        while ((lease = idle.poll()) != null) {
+            discard(lease);
+        }
+    }
+
+    static final class Lease implements AutoCloseable {
+        private final Connection connection;
+        private final Map<String, PreparedStatement> statements;
+        private JdbcConnectionPool pool;
+
+        private Lease(Connection connection) {
+            this.connection = connection;
+            this.statements = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, PreparedStatement> eldest) {
+                    if (size() <= STATEMENT_CACHE_SIZE) {
+                        return false;
+                    }
+                    try {
+                        eldest.getValue().close();
+                    } catch (SQLException e) {
+                        logger.error("Could not close cached statement", e);
+                    }
+                    return true;
+                }
+            };
+        }
+
+        /** Returns this connection's cached statement for the query, preparing it on first use. */
+        PreparedStatement prepare(String sql) throws SQLException {
+            PreparedStatement statement = statements.get(sql);
+            if (statement == null) {
+                statement = connection.prepareStatement(sql);
+                statements.put(sql, statement);
+            }
+            return statement;
+        }
+
+        void commit() throws SQLException {
+            connection.commit();
+        }
+
+        private void closeStatements() throws SQLException {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+            statements.clear();
+        }
+
+        @Override
+        public void close() {
+            JdbcConnectionPool owner = pool;
+            pool = null;
+            if (owner == null) {
+                return;
+            }
+            try {
+                connection.rollback();
+                for (PreparedStatement statement : statements.values()) {
+                    statement.clearBatch();
+                    statement.clearParameters();
+                }
+            } catch (SQLException e) {
+                logger.error("Discarding pooled connection after failed rollback", e);
+                owner.discard(this);
+                return;
+            }
+            owner.release(this);
+        }
+    }
+}
@@ -5,62 +5,74 @@ import org.apache.logging.log4j.Logger;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Stores boards one row per cell. Every operation borrows a connection from a {@link JdbcConnectionPool} for its
+ * own transaction, so a single instance can be shared by concurrent readers and writers.
+ */
 public class JdbcSudokuBoardDao implements Dao<SudokuBoard> {
     private static final Logger logger = LogManager.getLogger(JdbcSudokuBoardDao.class);
-    private final Connection connection;
+    private static final String SELECT_FIELDS = "SELECT field_row, field_column, field_value, sudoku_solver_name"
+            + " FROM sudoku_board_field WHERE sudoku_board_name = ?";
+    private static final String INSERT_FIELD = "INSERT INTO sudoku_board_field (sudoku_board_name,"
+            + " field_row, field_column, field_value, sudoku_solver_name) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_NAMES = "SELECT DISTINCT sudoku_board_name FROM sudoku_board_field";
+    private static final String DELETE_FIELDS = "DELETE FROM sudoku_board_field WHERE sudoku_board_name = ?";
+    private static final int BOARDS_PER_BATCH = 100;
+    private final JdbcConnectionPool pool;
+    private final boolean ownsPool;
 
     public JdbcSudokuBoardDao() {
-        String jdbcUrl = "jdbc:postgresql://localhost:5432/postgres";
-        String username = "postgres";
-        String password = "220203";
-        try {
-            Class.forName("org.postgresql.Driver");
-            this.connection = DriverManager.getConnection(jdbcUrl, username, password);
-            this.connection.setAutoCommit(false);
-        } catch (ClassNotFoundException e) {
-            logger.error("Could not find driver", e);
-            throw new RuntimeException("Could not find driver", e);
-        } catch (SQLException e) {
-            logger.error("Could not get connection to the database", e);
-            throw new RuntimeException("Could not get connection to the database", e);
-        }
+        this(JdbcConnectionPool.fromConfiguration(), true);
+    }
+
+    /**
+     * Uses a pool owned by the caller; closing the DAO leaves the pool open.
+     *
+     * @param pool pool to borrow connections from
+     */
+    public JdbcSudokuBoardDao(JdbcConnectionPool pool) {
+        this(pool, false);
+    }
+
+    private JdbcSudokuBoardDao(JdbcConnectionPool pool, boolean ownsPool) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
     }
 
     @Override
     public SudokuBoard read(String name) {
-        SudokuBoard sudokuBoard;
-        PreparedStatement preparedStatement;
-        try {
-            preparedStatement = connection.prepareStatement("SELECT * FROM sudoku_board_field"
-                            + " WHERE sudoku_board_name = ?",
-                    ResultSet.TYPE_SCROLL_SENSITIVE,
-                    ResultSet.CONCUR_UPDATABLE);
+        try (JdbcConnectionPool.Lease lease = pool.acquire()) {
+            PreparedStatement preparedStatement = lease.prepare(SELECT_FIELDS);
             preparedStatement.setString(1, name);
-            ResultSet resultSet = preparedStatement.executeQuery();
-            if (resultSet.next()) {
-                Class<?> sudokuSolverClass = Class.forName(resultSet.getString("sudoku_solver_name"));
-                Constructor<?> sudokuSolverConstructor = sudokuSolverClass.getConstructor();
-                sudokuBoard = new SudokuBoard((SudokuSolver) sudokuSolverConstructor.newInstance());
-                resultSet.previous();
+            SudokuBoard sudokuBoard = null;
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
                 while (resultSet.next()) {
-                    int row = Integer.parseInt(resultSet.getString("field_row"));
-                    int column = Integer.parseInt(resultSet.getString("field_column"));
-                    int value = Integer.parseInt(resultSet.getString("field_value"));
-                    sudokuBoard.set(row, column, value);
+                    if (sudokuBoard == null) {
+                        sudokuBoard = new SudokuBoard(newSolver(resultSet.getString("sudoku_solver_name")));
+                    }
+                    sudokuBoard.set(resultSet.getInt("field_row"), resultSet.getInt("field_column"),
+                            resultSet.getInt("field_value"));
                 }
-                return sudokuBoard;
             }
+            return sudokuBoard;
         } catch (SQLException e) {
             logger.error("SQL Exception", e);
             throw new RuntimeException("SQL Exception", e);
+        }
+    }
+
+    static SudokuSolver newSolver(String className) {
+        try {
+            Class<?> sudokuSolverClass = Class.forName(className);
+            Constructor<?> sudokuSolverConstructor = sudokuSolverClass.getConstructor();
+            return (SudokuSolver) sudokuSolverConstructor.newInstance();
         } catch (ClassNotFoundException e) {
             logger.error("Could not find class of SudokuSolver", e);
             throw new RuntimeException("Could not find class of SudokuSolver", e);
@@ -80,31 +92,68 @@ public class JdbcSudokuBoardDao implements Dao<SudokuBoard> {
             throw new RuntimeException("Constructor object is enforcing Java language access control and the underlying"
                     + " constructor is inaccessible", e);
         }
-        return null;
     }
 
     @Override
     public void write(String name, SudokuBoard obj) {
-        SudokuField[][] sudokuFields = obj.board;
+        writeAll(Map.of(name, obj));
+    }
+
+    /**
+     * Inserts all boards in one transaction, sending the rows in JDBC batches.
+     *
+     * @param boards boards to store, keyed by name
+     * @throws RuntimeException when the database rejects the batch; nothing is stored then
+     */
+    public void writeAll(Map<String, SudokuBoard> boards) {
+        for (SudokuBoard board : boards.values()) {
+            SudokuUnits.requireStandard(board, JdbcSudokuBoardDao.class);
+        }
+        try (JdbcConnectionPool.Lease lease = pool.acquire()) {
+            PreparedStatement preparedStatement = lease.prepare(INSERT_FIELD);
+            int pending = 0;
+            for (Map.Entry<String, SudokuBoard> entry : boards.entrySet()) {
+                addBoard(preparedStatement, entry.getKey(), entry.getValue());
+                if (++pending == BOARDS_PER_BATCH) {
+                    preparedStatement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                preparedStatement.executeBatch();
+            }
+            lease.commit();
+        } catch (SQLException e) {
+            logger.error("SQL Exception", e);
+            throw new RuntimeException("SQL Exception", e);
+        }
+    }
+
+    private void addBoard(PreparedStatement preparedStatement, String name, SudokuBoard board) throws SQLException {
+        String solverName = board.getSudokuSolver().getClass().getName();
         for (int row = 0; row < 9; row++) {
             for (int column = 0; column < 9; column++) {
-                writeField(name, obj, row, column, sudokuFields[row][column].getValue());
+                bindField(preparedStatement, name, solverName, row, column, board.get(row, column));
+                preparedStatement.addBatch();
             }
         }
-        //TODO: commit here
+    }
+
+    private static void bindField(PreparedStatement preparedStatement, String name, String solverName, int row,
+                                  int column, int value) throws SQLException {
+        preparedStatement.setString(1, name);
+        preparedStatement.setInt(2, row);
+        preparedStatement.setInt(3, column);
+        preparedStatement.setInt(4, value);
+        preparedStatement.setString(5, solverName);
     }
 
     public void writeField(String name, SudokuBoard obj, int row, int column, int value) {
-        PreparedStatement preparedStatement;
-        try {
-            preparedStatement = connection.prepareStatement("INSERT INTO sudoku_board_field (sudoku_board_name,"
-                    + " field_row, field_column, field_value, sudoku_solver_name) VALUES (?, ?, ?, ?, ?)");
-            preparedStatement.setString(1, name);
-            preparedStatement.setInt(2, row);
-            preparedStatement.setInt(3, column);
-            preparedStatement.setInt(4, value);
-            preparedStatement.setString(5, obj.getSudokuSolver().getClass().getName());
+        try (JdbcConnectionPool.Lease lease = pool.acquire()) {
+            PreparedStatement preparedStatement = lease.prepare(INSERT_FIELD);
+            bindField(preparedStatement, name, obj.getSudokuSolver().getClass().getName(), row, column, value);
             preparedStatement.executeUpdate();
+            lease.commit();
         } catch (SQLException e) {
             logger.error("SQL Exception", e);
             throw new RuntimeException("SQL Exception", e);
@@ -114,11 +163,8 @@ public class JdbcSudokuBoardDao implements Dao<SudokuBoard> {
     @Override
     public List<String> names() {
         List<String> names = new ArrayList<>();
-        PreparedStatement preparedStatement;
-        try {
-            preparedStatement = connection.prepareStatement("SELECT DISTINCT sudoku_board_name"
-                    + " FROM sudoku_board_field");
-            ResultSet resultSet = preparedStatement.executeQuery();
+        try (JdbcConnectionPool.Lease lease = pool.acquire();
+             ResultSet resultSet = lease.prepare(SELECT_NAMES).executeQuery()) {
             while (resultSet.next()) {
                 names.add(resultSet.getString("sudoku_board_name"));
             }
@@ -130,12 +176,11 @@ public class JdbcSudokuBoardDao implements Dao<SudokuBoard> {
     }
 
     public void delete(String name) {
-        PreparedStatement preparedStatement;
-        try {
-            preparedStatement = connection.prepareStatement("DELETE FROM sudoku_board_field"
-                    + " WHERE sudoku_board_name = ?");
+        try (JdbcConnectionPool.Lease lease = pool.acquire()) {
+            PreparedStatement preparedStatement = lease.prepare(DELETE_FIELDS);
             preparedStatement.setString(1, name);
             preparedStatement.executeUpdate();
+            lease.commit();
         } catch (SQLException e) {
             logger.error("SQL Exception", e);
             throw new RuntimeException("SQL Exception", e);
@@ -144,8 +189,9 @@ public class JdbcSudokuBoardDao implements Dao<SudokuBoard> {
 
     @Override
     public void close() throws Exception {
-        connection.commit();
-        connection.close();
+        if (ownsPool) {
+            pool.close();
+        }
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,268 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Stores each board as a single row of the {@code sudoku_board} table: cells, given mask and solution are packed
+ * as 81-character digit strings in row-major order, so reads and writes touch one row instead of 81. The given
+ * mask is only stored when the caller passes one, since a board alone cannot tell clues from moves.
+ */
+public class PackedJdbcSudokuBoardDao implements Dao<SudokuBoard> {
+    private static final Logger logger = LogManager.getLogger(PackedJdbcSudokuBoardDao.class);
+    private static final int CELLS = 81;
+    private static final String SELECT_BOARD = "SELECT cells, given_mask, solution, sudoku_solver_name"
+            + " FROM sudoku_board WHERE sudoku_board_name = ?";
+    private static final String SELECT_GIVENS = "SELECT given_mask FROM sudoku_board WHERE sudoku_board_name = ?";
+    private static final String UPSERT_BOARD = "INSERT INTO sudoku_board (sudoku_board_name, cells, given_mask,"
+            + " solution, sudoku_solver_name) VALUES (?, ?, ?, ?, ?) ON CONFLICT (sudoku_board_name) DO UPDATE SET"
+            + " cells = EXCLUDED.cells, given_mask = EXCLUDED.given_mask, solution = EXCLUDED.solution,"
+            + " sudoku_solver_name = EXCLUDED.sudoku_solver_name, updated_at = now()";
+    private static final String SELECT_NAMES = "SELECT sudoku_board_name FROM sudoku_board";
+    private static final String DELETE_BOARD = "DELETE FROM sudoku_board WHERE sudoku_board_name = ?";
+    private static final String MIGRATE_FIELDS = "INSERT INTO sudoku_board (sudoku_board_name, cells,"
+            + " sudoku_solver_name) SELECT sudoku_board_name,"
+            + " string_agg(field_value::TEXT, '' ORDER BY field_row, field_column),"
+            + " COALESCE(min(sudoku_solver_name), '" + BacktrackingSudokuSolver.class.getName() + "')"
+            + " FROM sudoku_board_field GROUP BY sudoku_board_name HAVING count(*) = 81"
+            + " ON CONFLICT (sudoku_board_name) DO NOTHING";
+    private static final int BOARDS_PER_BATCH = 1000;
+    private final JdbcConnectionPool pool;
+    private final boolean ownsPool;
+
+    public PackedJdbcSudokuBoardDao() {
+        this(JdbcConnectionPool.fromConfiguration(), true);
+    }
+
+    /**
+     * Uses a pool owned by the caller; closing the DAO leaves the pool open.
+     *
+     * @param pool pool to borrow connections from
+     */
+    public PackedJdbcSudokuBoardDao(JdbcConnectionPool pool) {
+        this(pool, false);
+    }
+
+    private PackedJdbcSudokuBoardDao(JdbcConnectionPool pool, boolean ownsPool) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+    }
+
+    @Override
+    public SudokuBoard read(String name) {
+        try (JdbcConnectionPool.Lease lease = pool.acquire()) {
+            PreparedStatement preparedStatement = lease.prepare(SELECT_BOARD);
+            preparedStatement.setString(1, name);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                SudokuBoard sudokuBoard = new SudokuBoard(
+                        JdbcSudokuBoardDao.newSolver(resultSet.getString("sudoku_solver_name")));
+                sudokuBoard.restore(unpack(resultSet.getString("cells"), name));
+                String solution = resultSet.getString("solution");
+                if (solution != null) {
+                    sudokuBoard.setSolution(unpack(solution, name));
+                }
+                return sudokuBoard;
+            }
+        } catch (SQLException e) {
+            logger.error("SQL Exception", e);
+            throw new RuntimeException("SQL Exception", e);
+        }
+    }
+
+    /**
+     * Reads which cells of a stored board are givens.
+     *
+     * @param name name of the board
+     * @return the given mask in row-major order, or null when there is no such board or no mask was stored
+     * @throws RuntimeException when the query fails
+     */
+    public boolean[] readGivens(String name) {
+        try (JdbcConnectionPool.Lease lease = pool.acquire()) {
+            PreparedStatement preparedStatement = lease.prepare(SELECT_GIVENS);
+            preparedStatement.setString(1, name);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                String stored = resultSet.next() ? resultSet.getString("given_mask") : null;
+                if (stored == null) {
+                    return null;
+                }
+                byte[] mask = unpack(stored, name);
+                boolean[] givens = new boolean[CELLS];
+                for (int i = 0; i < CELLS; i++) {
+                    givens[i] = mask[i] != 0;
+                }
+                return givens;
+            }
+        } catch (SQLException e) {
+            logger.error("SQL Exception", e);
+            throw new RuntimeException("SQL Exception", e);
+        }
+    }
+
+    /** Stores the board without a given mask; use the three-argument overload for saved games. */
+    @Override
+    public void write(String name, SudokuBoard obj) {
+        write(name, obj, null);
+    }
+
+    /**
+     * Stores the board, replacing any board of the same name.
+     *
+     * @param name name of the board
+     * @param obj board to store
+     * @param givens which cells are givens in row-major order, or null to record none
+     * @throws RuntimeException when the statement fails
+     */
+    public void write(String name, SudokuBoard obj, boolean[] givens) {
+        SudokuUnits.requireStandard(obj, PackedJdbcSudokuBoardDao.class);
+        try (JdbcConnectionPool.Lease lease = pool.acquire()) {
+            PreparedStatement preparedStatement = lease.prepare(UPSERT_BOARD);
+            bindBoard(preparedStatement, name, obj, givens);
+            preparedStatement.executeUpdate();
+            lease.commit();
+        } catch (SQLException e) {
+            logger.error("SQL Exception", e);
+            throw new RuntimeException("SQL Exception", e);
+        }
+    }
+
+    /**
+     * Stores all boards in one transaction, one batched row per board, without given masks.
+     *
+     * @param boards boards to store, keyed by name
+     * @throws RuntimeException when the database rejects the batch; nothing is stored then
+     */
+    public void writeAll(Map<String, SudokuBoard> boards) {
+        for (SudokuBoard board : boards.values()) {
+            SudokuUnits.requireStandard(board, PackedJdbcSudokuBoardDao.class);
+        }
+        try (JdbcConnectionPool.Lease lease = pool.acquire()) {
+            PreparedStatement preparedStatement = lease.prepare(UPSERT_BOARD);
+            int pending = 0;
+            for (Map.Entry<String, SudokuBoard> entry : boards.entrySet()) {
+                bindBoard(preparedStatement, entry.getKey(), entry.getValue(), null);
+                preparedStatement.addBatch();
+                if (++pending == BOARDS_PER_BATCH) {
+                    preparedStatement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                preparedStatement.executeBatch();
+            }
+            lease.commit();
+        } catch (SQLException e) {
+            logger.error("SQL Exception", e);
+            throw new RuntimeException("SQL Exception", e);
+        }
+    }
+
+    private static void bindBoard(PreparedStatement preparedStatement, String name, SudokuBoard board,
+                                  boolean[] givens) throws SQLException {
+        if (givens != null && givens.length != CELLS) {
+            logger.error("Given mask must have " + CELLS + " entries, got " + givens.length);
+            throw new IllegalArgumentException("Given mask must have " + CELLS + " entries, got " + givens.length);
+        }
+        String mask = null;
+        if (givens != null) {
+            char[] digits = new char[CELLS];
+            for (int i = 0; i < CELLS; i++) {
+                digits[i] = givens[i] ? '1' : '0';
+            }
+            mask = new String(digits);
+        }
+        preparedStatement.setString(1, name);
+        preparedStatement.setString(2, pack(board.snapshot()));
+        preparedStatement.setString(3, mask);
+        preparedStatement.setString(4, board.hasSolution() ? pack(board.getSolution()) : null);
+        preparedStatement.setString(5, board.getSudokuSolver().getClass().getName());
+    }
+
+    private static String pack(byte[] values) {
+        char[] digits = new char[values.length];
+        for (int i = 0; i < values.length; i++) {
+            digits[i] = (char) ('0' + values[i]);
+        }
+        return new String(digits);
+    }
+
+    private static byte[] unpack(String digits, String name) {
+        if (digits == null || digits.length() != CELLS) {
+            logger.error("Stored board " + name + " does not hold " + CELLS + " cells");
+            throw new IllegalStateException("Stored board " + name + " does not hold " + CELLS + " cells");
+        }
+        byte[] values = new byte[CELLS];
+        for (int i = 0; i < CELLS; i++) {
+            int value = digits.charAt(i) - '0';
+            if (value < 0 || value > 9) {
+                logger.error("Stored board " + name + " has invalid cell '" + digits.charAt(i) + "'");
+                throw new IllegalStateException("Stored board " + name + " has invalid cell '" + digits.charAt(i)
+                        + "'");
+            }
+            values[i] = (byte) value;
+        }
+        return values;
+    }
+
+    /**
+     * Copies every complete board from the per-cell {@code sudoku_board_field} table into {@code sudoku_board},
+     * keeping boards that already exist in the packed table. The per-cell table has no givens, so none are
+     * recorded, and boards stored without a solver name get the backtracking solver.
+     *
+     * @return number of boards copied
+     * @throws RuntimeException when the migration fails; nothing is copied then
+     */
+    public int migrateFromFieldTable() {
+        try (JdbcConnectionPool.Lease lease = pool.acquire()) {
+            int migrated = lease.prepare(MIGRATE_FIELDS).executeUpdate();
+            lease.commit();
+            return migrated;
+        } catch (SQLException e) {
+            logger.error("SQL Exception", e);
+            throw new RuntimeException("SQL Exception", e);
+        }
+    }
+
+    @Override
+    public List<String> names() {
+        List<String> names = new ArrayList<>();
+        try (JdbcConnectionPool.Lease lease = pool.acquire();
+             ResultSet resultSet = lease.prepare(SELECT_NAMES).executeQuery()) {
+            while (resultSet.next()) {
+                names.add(resultSet.getString("sudoku_board_name"));
+            }
+        } catch (SQLException e) {
+            logger.error("SQL Exception", e);
+            throw new RuntimeException("SQL Exception", e);
+        }
+        return names;
+    }
+
+    public void delete(String name) {
+        try (JdbcConnectionPool.Lease lease = pool.acquire()) {
+            PreparedStatement preparedStatement = lease.prepare(DELETE_BOARD);
+            preparedStatement.setString(1, name);
+            preparedStatement.executeUpdate();
+            lease.commit();
+        } catch (SQLException e) {
+            logger.error("SQL Exception", e);
+            throw new RuntimeException("SQL Exception", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.close();
+        }
+    }
+}
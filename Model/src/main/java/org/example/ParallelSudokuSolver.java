@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import com.google.common.base.MoreObjects;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ParallelSudokuSolver implements SudokuSolver, Cloneable, Serializable {
+    private static final Logger logger = LogManager.getLogger(ParallelSudokuSolver.class);
+    private static final int DEFAULT_SPLIT_DEPTH = 3;
+    // One pool per parallelism level, shared by every instance and clone; its workers are daemon threads.
+    private static final ConcurrentMap<Integer, ForkJoinPool> pools = new ConcurrentHashMap<>();
+
+    private final int parallelism;
+    private final int splitDepth;
+
+    public ParallelSudokuSolver() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelSudokuSolver(int parallelism) {
+        this(parallelism, DEFAULT_SPLIT_DEPTH);
+    }
+
+    public ParallelSudokuSolver(int parallelism, int splitDepth) {
+        if (parallelism < 1 || splitDepth < 0) {
+            logger.error("Invalid parallel solver configuration");
+            throw new IllegalArgumentException("Parallelism must be positive and split depth non-negative.");
+        }
+        this.parallelism = parallelism;
+        this.splitDepth = splitDepth;
+    }
+
+    public void solve(SudokuBoard board) {
+        BitmaskSearch solution = run(board, true);
+        if (solution != null) {
+            solution.writeTo(board);
+        }
+    }
+
+    public boolean solvable(SudokuBoard board) {
+        return run(board, false) != null;
+    }
+
+    public int countSolutions(SudokuBoard board, int limit) {
+        if (limit < 1) {
+            logger.error("Solution limit must be positive");
+            throw new IllegalArgumentException("Solution limit must be positive.");
+        }
+        BitmaskSearch root = new BitmaskSearch(board.getGeometry(), false);
+        if (!root.load(board)) {
+            return 0;
+        }
+        root.setCancelled(new AtomicBoolean());
+        AtomicInteger total = new AtomicInteger();
+        getPool().invoke(new CountTask(root, splitDepth, total, limit));
+        return Math.min(total.get(), limit);
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    private BitmaskSearch run(SudokuBoard board, boolean randomized) {
+        BitmaskSearch root = new BitmaskSearch(board.getGeometry(), randomized);
+        if (!root.load(board)) {
+            return null;
+        }
+        root.setCancelled(new AtomicBoolean());
+        return getPool().invoke(new SearchTask(root, splitDepth));
+    }
+
+    private ForkJoinPool getPool() {
+        return pools.computeIfAbsent(parallelism, ForkJoinPool::new);
+    }
+
+    private static final class SearchTask extends RecursiveTask<BitmaskSearch> {
+        private final BitmaskSearch state;
+        private final AtomicBoolean found;
+        private final int depth;
+
+        SearchTask(BitmaskSearch state, int depth) {
+            this.state = state;
+            this.found = state.cancelledFlag();
+            this.depth = depth;
+        }
+
+        @Override
+        protected BitmaskSearch compute() {
+            if (found.get()) {
+                return null;
+            }
+            if (depth == 0 || state.isComplete()) {
+                return finish(state.search());
+            }
+            int cell = state.takeCell();
+            if (cell < 0) {
+                return null;
+            }
+            int offset = state.randomOffset();
+            int rotated = state.rotate(state.candidates(cell), offset);
+            List<SearchTask> children = new ArrayList<>(Integer.bitCount(rotated));
+            while (rotated != 0) {
+                int bit = Integer.numberOfTrailingZeros(rotated);
+                rotated &= rotated - 1;
+                BitmaskSearch child = new BitmaskSearch(state);
+                child.place(cell, (bit + offset) % state.size() + 1);
+                children.add(new SearchTask(child, depth - 1));
+            }
+            for (int i = children.size() - 1; i > 0; i--) {
+                children.get(i).fork();
+            }
+            BitmaskSearch result = children.isEmpty() ? null : children.get(0).compute();
+            for (int i = 1; i < children.size(); i++) {
+                SearchTask child = children.get(i);
+                if (result != null) {
+                    child.cancel(false);
+                } else if (!child.isCancelled()) {
+                    result = child.join();
+                }
+            }
+            return result;
+        }
+
+        private BitmaskSearch finish(boolean solved) {
+            if (solved && found.compareAndSet(false, true)) {
+                return state;
+            }
+            return null;
+        }
+    }
+
+    private static final class CountTask extends RecursiveAction {
+        private final BitmaskSearch state;
+        private final int depth;
+        private final AtomicInteger total;
+        private final int limit;
+
+        CountTask(BitmaskSearch state, int depth, AtomicInteger total, int limit) {
+            this.state = state;
+            this.depth = depth;
+            this.total = total;
+            this.limit = limit;
+        }
+
+        @Override
+        protected void compute() {
+            AtomicBoolean limitReached = state.cancelledFlag();
+            if (limitReached.get()) {
+                return;
+            }
+            if (depth == 0 || state.isComplete()) {
+                int found = state.count(limit);
+                if (found > 0 && total.addAndGet(found) >= limit) {
+                    limitReached.set(true);
+                }
+                return;
+            }
+            int cell = state.takeCell();
+            if (cell < 0) {
+                return;
+            }
+            int candidates = state.candidates(cell);
+            List<CountTask> children = new ArrayList<>(Integer.bitCount(candidates));
+            while (candidates != 0) {
+                int value = Integer.numberOfTrailingZeros(candidates) + 1;
+                candidates &= candidates - 1;
+                BitmaskSearch child = new BitmaskSearch(state);
+                child.place(cell, value);
+                children.add(new CountTask(child, depth - 1, total, limit));
+            }
+            invokeAll(children);
+        }
+    }
+
+    @Override
+    public ParallelSudokuSolver clone() {
+        ParallelSudokuSolver parallelSudokuSolver;
+
+        try {
+            parallelSudokuSolver = (ParallelSudokuSolver) super.clone();
+        } catch (CloneNotSupportedException e) {
+            logger.error(ParallelSudokuSolver.class.getName() + " does not support cloning.", e);
+            throw new AssertionError(e);
+        }
+
+        return parallelSudokuSolver;
+    }
+
+    @Override
+    public String toString() {
+        return MoreObjects.toStringHelper(this)
+                .add("parallelism", parallelism)
+                .add("splitDepth", splitDepth)
+                .toString();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final ParallelSudokuSolver other = (ParallelSudokuSolver) obj;
+        return parallelism == other.parallelism && splitDepth == other.splitDepth;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(parallelism, splitDepth);
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.example.SudokuUnits.ALL;
+import static org.example.SudokuUnits.BOX_OF;
+import static org.example.SudokuUnits.CELLS;
+import static org.example.SudokuUnits.COL_OF;
+import static org.example.SudokuUnits.PEERS;
+import static org.example.SudokuUnits.ROW_OF;
+import static org.example.SudokuUnits.SIZE;
+import static org.example.SudokuUnits.UNITS;
+
+final class PropagationSearch {
+    private static final int ASSIGNED = 1 << 16;
+    private static final int TRAIL_CAPACITY = CELLS * (SIZE + 1);
+
+    private final int[] masks = new int[CELLS];
+    private final int[] values = new int[CELLS];
+    private final int[] trailEntry = new int[TRAIL_CAPACITY];
+    private final int[] trailMask = new int[TRAIL_CAPACITY];
+    private int trailSize;
+    private int guesses;
+    private final boolean randomized;
+
+    PropagationSearch(boolean randomized) {
+        this.randomized = randomized;
+    }
+
+    boolean load(SudokuBoard board) {
+        SudokuUnits.requireStandard(board, ConstraintPropagationSudokuSolver.class);
+        trailSize = 0;
+        guesses = 0;
+        for (int i = 0; i < CELLS; i++) {
+            masks[i] = ALL;
+            values[i] = 0;
+        }
+        for (int i = 0; i < CELLS; i++) {
+            int value = board.get(ROW_OF[i], COL_OF[i]);
+            if (value != 0 && !assign(i, value)) {
+                return false;
+            }
+        }
+        trailSize = 0;
+        return propagate();
+    }
+
+    void writeTo(SudokuBoard board) {
+        for (int i = 0; i < CELLS; i++) {
+            if (board.get(ROW_OF[i], COL_OF[i]) == 0) {
+                board.set(ROW_OF[i], COL_OF[i], values[i]);
+            }
+        }
+    }
+
+    int getGuesses() {
+        return guesses;
+    }
+
+    boolean search() {
+        int cell = chooseCell();
+        if (cell < 0) {
+            return true;
+        }
+        guesses++;
+        int candidates = masks[cell];
+        int offset = randomized ? ThreadLocalRandom.current().nextInt(SIZE) : 0;
+        int rotated = (candidates >>> offset | candidates << (SIZE - offset)) & ALL;
+        while (rotated != 0) {
+            int bit = Integer.numberOfTrailingZeros(rotated);
+            rotated &= rotated - 1;
+            int mark = trailSize;
+            if (assign(cell, (bit + offset) % SIZE + 1) && propagate() && search()) {
+                return true;
+            }
+            undo(mark);
+        }
+        return false;
+    }
+
+    int count(int limit) {
+        int cell = chooseCell();
+        if (cell < 0) {
+            return 1;
+        }
+        guesses++;
+        int total = 0;
+        int candidates = masks[cell];
+        while (candidates != 0 && total < limit) {
+            int value = Integer.numberOfTrailingZeros(candidates) + 1;
+            candidates &= candidates - 1;
+            int mark = trailSize;
+            if (assign(cell, value) && propagate()) {
+                total += count(limit - total);
+            }
+            undo(mark);
+        }
+        return total;
+    }
+
+    private int chooseCell() {
+        int best = -1;
+        int bestCount = SIZE + 1;
+        for (int i = 0; i < CELLS; i++) {
+            if (values[i] == 0) {
+                int count = Integer.bitCount(masks[i]);
+                if (count < bestCount) {
+                    best = i;
+                    bestCount = count;
+                }
+            }
+        }
+        return best;
+    }
+
+    private boolean propagate() {
+        boolean progress = true;
+        while (progress) {
+            progress = false;
+            for (int i = 0; i < CELLS; i++) {
+                if (values[i] == 0 && Integer.bitCount(masks[i]) == 1) {
+                    if (!assign(i, Integer.numberOfTrailingZeros(masks[i]) + 1)) {
+                        return false;
+                    }
+                    progress = true;
+                }
+            }
+            if (progress) {
+                continue;
+            }
+            int result = hiddenSingles();
+            if (result < 0) {
+                return false;
+            }
+            if (result > 0) {
+                progress = true;
+                continue;
+            }
+            result = lockedCandidates();
+            if (result < 0) {
+                return false;
+            }
+            progress = result > 0;
+        }
+        return true;
+    }
+
+    private int hiddenSingles() {
+        boolean progress = false;
+        for (int[] unit : UNITS) {
+            int seenOnce = 0;
+            int seenTwice = 0;
+            int placed = 0;
+            for (int cell : unit) {
+                if (values[cell] != 0) {
+                    placed |= masks[cell];
+                } else {
+                    seenTwice |= seenOnce & masks[cell];
+                    seenOnce |= masks[cell];
+                }
+            }
+            if ((seenOnce | placed) != ALL) {
+                return -1;
+            }
+            int singles = seenOnce & ~seenTwice & ~placed;
+            while (singles != 0) {
+                int bit = singles & -singles;
+                singles &= singles - 1;
+                for (int cell : unit) {
+                    if (values[cell] == 0 && (masks[cell] & bit) != 0) {
+                        if (!assign(cell, Integer.numberOfTrailingZeros(bit) + 1)) {
+                            return -1;
+                        }
+                        progress = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return progress ? 1 : 0;
+    }
+
+    private int lockedCandidates() {
+        boolean progress = false;
+        for (int box = 0; box < SIZE; box++) {
+            int[] unit = UNITS[2 * SIZE + box];
+            for (int bit = 1; bit <= ALL; bit <<= 1) {
+                int rows = 0;
+                int cols = 0;
+                for (int cell : unit) {
+                    if (values[cell] == 0 && (masks[cell] & bit) != 0) {
+                        rows |= 1 << ROW_OF[cell];
+                        cols |= 1 << COL_OF[cell];
+                    }
+                }
+                if (Integer.bitCount(rows) == 1) {
+                    int result = eliminateOutsideBox(UNITS[Integer.numberOfTrailingZeros(rows)], box, bit);
+                    if (result < 0) {
+                        return -1;
+                    }
+                    progress |= result > 0;
+                }
+                if (Integer.bitCount(cols) == 1) {
+                    int result = eliminateOutsideBox(UNITS[SIZE + Integer.numberOfTrailingZeros(cols)], box, bit);
+                    if (result < 0) {
+                        return -1;
+                    }
+                    progress |= result > 0;
+                }
+            }
+        }
+        for (int line = 0; line < 2 * SIZE; line++) {
+            int[] unit = UNITS[line];
+            for (int bit = 1; bit <= ALL; bit <<= 1) {
+                int boxes = 0;
+                for (int cell : unit) {
+                    if (values[cell] == 0 && (masks[cell] & bit) != 0) {
+                        boxes |= 1 << BOX_OF[cell];
+                    }
+                }
+                if (Integer.bitCount(boxes) == 1) {
+                    int result = eliminateOutsideLine(UNITS[2 * SIZE + Integer.numberOfTrailingZeros(boxes)],
+                            line, bit);
+                    if (result < 0) {
+                        return -1;
+                    }
+                    progress |= result > 0;
+                }
+            }
+        }
+        return progress ? 1 : 0;
+    }
+
+    private int eliminateOutsideBox(int[] line, int box, int bit) {
+        boolean progress = false;
+        for (int cell : line) {
+            if (BOX_OF[cell] != box && values[cell] == 0 && (masks[cell] & bit) != 0) {
+                if (!eliminate(cell, bit)) {
+                    return -1;
+                }
+                progress = true;
+            }
+        }
+        return progress ? 1 : 0;
+    }
+
+    private int eliminateOutsideLine(int[] box, int line, int bit) {
+        boolean progress = false;
+        for (int cell : box) {
+            boolean inLine = line < SIZE ? ROW_OF[cell] == line : COL_OF[cell] == line - SIZE;
+            if (!inLine && values[cell] == 0 && (masks[cell] & bit) != 0) {
+                if (!eliminate(cell, bit)) {
+                    return -1;
+                }
+                progress = true;
+            }
+        }
+        return progress ? 1 : 0;
+    }
+
+    private boolean assign(int cell, int value) {
+        int bit = 1 << (value - 1);
+        if ((masks[cell] & bit) == 0) {
+            return false;
+        }
+        push(cell | ASSIGNED, masks[cell]);
+        values[cell] = value;
+        masks[cell] = bit;
+        for (int peer : PEERS[cell]) {
+            if ((masks[peer] & bit) != 0) {
+                if (values[peer] != 0 || !eliminate(peer, bit)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean eliminate(int cell, int bit) {
+        push(cell, masks[cell]);
+        masks[cell] &= ~bit;
+        return masks[cell] != 0;
+    }
+
+    private void push(int entry, int mask) {
+        trailEntry[trailSize] = entry;
+        trailMask[trailSize] = mask;
+        trailSize++;
+    }
+
+    private void undo(int mark) {
+        while (trailSize > mark) {
+            trailSize--;
+            int entry = trailEntry[trailSize];
+            int cell = entry & ~ASSIGNED;
+            masks[cell] = trailMask[trailSize];
+            if ((entry & ASSIGNED) != 0) {
+                values[cell] = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Read-only bank of 9x9 puzzles packed at 4 bits per cell into {@value #RECORD_SIZE}-byte records.
+ *
+ * <p>The file starts with a {@value #HEADER_SIZE}-byte header: the magic {@code SDKB}, a format version, the
+ * record size, and for every {@link Difficulty} the index of its first record and its record count. Records of
+ * one difficulty are contiguous and ordered by difficulty. The records are mapped in segments so banks larger
+ * than 2 GB can be read, and a lookup only does absolute reads on a mapping.
+ */
+public class PuzzleBank implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(PuzzleBank.class);
+    static final int MAGIC = 0x53444B42;
+    static final short VERSION = 1;
+    static final int RECORD_SIZE = (SudokuUnits.CELLS + 1) / 2;
+    static final int HEADER_SIZE = 64;
+    private static final long DEFAULT_RECORDS_PER_SEGMENT = Integer.MAX_VALUE / RECORD_SIZE;
+
+    private final FileChannel channel;
+    private final long[] firstRecord = new long[Difficulty.values().length];
+    private final long[] recordCount = new long[Difficulty.values().length];
+    private final MappedByteBuffer[] segments;
+    private final long recordsPerSegment;
+
+    public PuzzleBank(Path path) throws IOException {
+        this(path, DEFAULT_RECORDS_PER_SEGMENT);
+    }
+
+    public PuzzleBank(Path path, long recordsPerSegment) throws IOException {
+        if (recordsPerSegment < 1 || recordsPerSegment > DEFAULT_RECORDS_PER_SEGMENT) {
+            logger.error("Invalid records per segment: " + recordsPerSegment);
+            throw new IllegalArgumentException("A segment must hold between 1 and "
+                    + DEFAULT_RECORDS_PER_SEGMENT + " records.");
+        }
+        this.recordsPerSegment = recordsPerSegment;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long totalRecords = readHeader(path);
+            int segmentCount = (int) ((totalRecords + recordsPerSegment - 1) / recordsPerSegment);
+            segments = new MappedByteBuffer[segmentCount];
+            for (int i = 0; i < segmentCount; i++) {
+                long first = i * recordsPerSegment;
+                long records = Math.min(recordsPerSegment, totalRecords - first);
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE + first * RECORD_SIZE,
+                        records * RECORD_SIZE);
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private long readHeader(Path path) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                break;
+            }
+        }
+        header.flip();
+        if (header.limit() < HEADER_SIZE || header.getInt() != MAGIC || header.getShort() != VERSION
+                || header.getShort() != RECORD_SIZE || header.getInt() != Difficulty.values().length) {
+            logger.error("Not a puzzle bank: " + path);
+            throw new IOException("Unsupported puzzle bank format: " + path);
+        }
+        long totalRecords = 0;
+        for (int i = 0; i < firstRecord.length; i++) {
+            firstRecord[i] = header.getLong();
+            recordCount[i] = header.getLong();
+            totalRecords = Math.max(totalRecords, firstRecord[i] + recordCount[i]);
+        }
+        if (HEADER_SIZE + totalRecords * RECORD_SIZE > channel.size()) {
+            logger.error("Puzzle bank is truncated: " + path);
+            throw new IOException("Puzzle bank is truncated: " + path);
+        }
+        return totalRecords;
+    }
+
+    public long size(Difficulty difficulty) {
+        return recordCount[difficulty.ordinal()];
+    }
+
+    /**
+     * Unpacks one puzzle of the bank into a caller-owned array.
+     *
+     * @param difficulty difficulty section to read from
+     * @param index position of the puzzle within that section
+     * @param cells array of at least 81 values that receives the puzzle in row-major order
+     * @throws IndexOutOfBoundsException when the section has no puzzle at {@code index}
+     */
+    public void read(Difficulty difficulty, long index, byte[] cells) {
+        if (index < 0 || index >= recordCount[difficulty.ordinal()]) {
+            logger.error("Puzzle index " + index + " out of range for " + difficulty);
+            throw new IndexOutOfBoundsException("No puzzle " + index + " for " + difficulty);
+        }
+        long record = firstRecord[difficulty.ordinal()] + index;
+        MappedByteBuffer segment = segments[(int) (record / recordsPerSegment)];
+        int offset = (int) (record % recordsPerSegment) * RECORD_SIZE;
+        unpack(segment, offset, cells);
+    }
+
+    public void readRandom(Difficulty difficulty, byte[] cells) {
+        long count = recordCount[difficulty.ordinal()];
+        if (count == 0) {
+            logger.error("Puzzle bank has no puzzles for " + difficulty);
+            throw new IllegalStateException("No puzzles for " + difficulty);
+        }
+        read(difficulty, ThreadLocalRandom.current().nextLong(count), cells);
+    }
+
+    public SudokuBoard board(Difficulty difficulty, long index, SudokuSolver sudokuSolver) {
+        byte[] cells = new byte[SudokuUnits.CELLS];
+        read(difficulty, index, cells);
+        SudokuBoard board = new SudokuBoard(sudokuSolver);
+        board.restore(cells);
+        return board;
+    }
+
+    static void pack(byte[] cells, ByteBuffer target) {
+        for (int i = 0; i < SudokuUnits.CELLS; i += 2) {
+            int low = i + 1 < SudokuUnits.CELLS ? cells[i + 1] : 0;
+            target.put((byte) (cells[i] << 4 | low));
+        }
+    }
+
+    static void unpack(ByteBuffer source, int offset, byte[] cells) {
+        for (int i = 0; i < SudokuUnits.CELLS; i += 2) {
+            int packed = source.get(offset + i / 2);
+            cells[i] = (byte) (packed >>> 4 & 0xF);
+            if (i + 1 < SudokuUnits.CELLS) {
+                cells[i + 1] = (byte) (packed & 0xF);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            logger.error("Failed to close puzzle bank", e);
+            throw new UncheckedIOException(e);
+        }
+    }
+}
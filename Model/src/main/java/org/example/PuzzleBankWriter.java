@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams puzzles into the {@link PuzzleBank} format. Puzzles must be added grouped by difficulty in
+ * declaration order; the header is written when the writer is closed.
+ */
+public class PuzzleBankWriter implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(PuzzleBankWriter.class);
+    private static final int BUFFERED_RECORDS = 4096;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFERED_RECORDS * PuzzleBank.RECORD_SIZE);
+    private final long[] firstRecord = new long[Difficulty.values().length];
+    private final long[] recordCount = new long[Difficulty.values().length];
+    private int currentDifficulty;
+    private long records;
+
+    public PuzzleBankWriter(Path path) throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        channel.position(PuzzleBank.HEADER_SIZE);
+    }
+
+    public void add(Difficulty difficulty, SudokuBoard board) throws IOException {
+        SudokuUnits.requireStandard(board, PuzzleBankWriter.class);
+        add(difficulty, board.snapshot());
+    }
+
+    public void add(Difficulty difficulty, byte[] cells) throws IOException {
+        if (difficulty.ordinal() < currentDifficulty) {
+            logger.error("Puzzle for " + difficulty + " added after a later difficulty");
+            throw new IllegalStateException("Puzzles must be added grouped by difficulty in declaration order.");
+        }
+        if (cells.length != SudokuUnits.CELLS) {
+            logger.error("Puzzle has wrong length: " + cells.length);
+            throw new IllegalArgumentException("Puzzle must contain 81 cells.");
+        }
+        // cells are packed four bits each; other values would read back wrong or spill into the neighbouring cell
+        for (byte value : cells) {
+            if (value < 0 || value > SudokuUnits.SIZE) {
+                logger.error("Number entered was not between 0 and " + SudokuUnits.SIZE);
+                throw new IllegalArgumentException("Number must be between 0 and " + SudokuUnits.SIZE + ".");
+            }
+        }
+        while (currentDifficulty < difficulty.ordinal()) {
+            firstRecord[++currentDifficulty] = records;
+        }
+        if (!buffer.hasRemaining()) {
+            flush();
+        }
+        PuzzleBank.pack(cells, buffer);
+        recordCount[currentDifficulty]++;
+        records++;
+    }
+
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+            while (currentDifficulty < firstRecord.length - 1) {
+                firstRecord[++currentDifficulty] = records;
+            }
+            ByteBuffer header = ByteBuffer.allocate(PuzzleBank.HEADER_SIZE);
+            header.putInt(PuzzleBank.MAGIC)
+                    .putShort(PuzzleBank.VERSION)
+                    .putShort((short) PuzzleBank.RECORD_SIZE)
+                    .putInt(firstRecord.length);
+            for (int i = 0; i < firstRecord.length; i++) {
+                header.putLong(firstRecord[i]).putLong(recordCount[i]);
+            }
+            header.clear();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+        } finally {
+            channel.close();
+        }
+    }
+}
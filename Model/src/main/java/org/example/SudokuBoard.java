@@ -20,125 +20,435 @@ import com.google.common.base.MoreObjects;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.beans.PropertyChangeListener;
+import java.beans.PropertyChangeSupport;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Arrays;
-import java.util.Objects;
 import java.util.Random;
 
 public class SudokuBoard implements Cloneable, Serializable {
+    // pinned to the value of the original SudokuField[][] layout so boards saved by it still load
+    private static final long serialVersionUID = -4313511992451294818L;
     private static final Logger logger = LogManager.getLogger(SudokuBoard.class);
-    public SudokuField[][] board;
-    private final SudokuRow[] rows;
-    private final SudokuColumn[] columns;
-    private final SudokuBox[] boxes;
-    private final SudokuSolver sudokuSolver;
+    // assigned once, by a constructor or readObject
+    private int boxSize;
+    private byte[] cells;
+    private SudokuSolver sudokuSolver;
+    private byte[] solution;
+    private transient SudokuField[] fields;
+    private transient SudokuGeometry geometry;
+    private transient int[] unitMasks;
+    private transient byte[] unitCounts;
+    private transient int conflicts;
+    private transient int mismatches;
+    private transient long zobristHash;
+    private transient PropertyChangeSupport propertyChangeSupport;
+    private transient int updateDepth;
+    private transient byte[] updateStart;
 
     public SudokuBoard(SudokuSolver sudokuSolver) {
-        this.board = initializeFields();
-        this.rows = initializeRows(this.board);
-        this.columns = initializeColumns(this.board);
-        this.boxes = initializeBoxes(this.board);
+        this(sudokuSolver, 3);
+    }
+
+    public SudokuBoard(SudokuSolver sudokuSolver, int boxSize) {
+        if (!SudokuGeometry.isSupported(boxSize)) {
+            logger.error("Unsupported box size: " + boxSize);
+            throw new IllegalArgumentException("Box size must be between " + SudokuGeometry.MIN_BOX_SIZE
+                    + " and " + SudokuGeometry.MAX_BOX_SIZE + ".");
+        }
+        this.boxSize = boxSize;
+        this.geometry = SudokuGeometry.of(boxSize);
+        this.cells = new byte[geometry.cells];
         this.sudokuSolver = sudokuSolver;
+        initializeOccupancy();
+    }
+
+    private SudokuBoard(SudokuBoard other) {
+        this.boxSize = other.boxSize;
+        this.geometry = other.geometry;
+        this.cells = other.cells.clone();
+        this.sudokuSolver = other.sudokuSolver;
+        this.unitMasks = other.unitMasks.clone();
+        this.unitCounts = other.unitCounts.clone();
+        this.conflicts = other.conflicts;
+        this.solution = other.solution;
+        this.mismatches = other.mismatches;
+        this.zobristHash = other.zobristHash;
+    }
+
+    private void initializeOccupancy() {
+        unitMasks = new int[3 * geometry.size];
+        unitCounts = new byte[3 * geometry.size * geometry.size];
+        rebuildOccupancy();
+    }
+
+    private void rebuildOccupancy() {
+        Arrays.fill(unitMasks, 0);
+        Arrays.fill(unitCounts, (byte) 0);
+        conflicts = 0;
+        zobristHash = 0;
+        for (int cell = 0; cell < geometry.cells; cell++) {
+            updateOccupancy(cell, cells[cell], 1);
+            zobristHash ^= geometry.zobrist[cell][cells[cell]];
+        }
+        rebuildMismatches();
+    }
+
+    private void rebuildMismatches() {
+        mismatches = 0;
+        if (solution != null) {
+            for (int cell = 0; cell < geometry.cells; cell++) {
+                mismatches += mismatch(cell, cells[cell]);
+            }
+        }
+    }
+
+    private int mismatch(int cell, int value) {
+        return value != 0 && value != solution[cell] ? 1 : 0;
     }
 
-    SudokuField[][] initializeFields() {
-        SudokuField[][] board = new SudokuField[9][9];
-        for (int r = 0; r < 9; r++) {
-            for (int c = 0; c < 9; c++) {
-                board[r][c] = new SudokuField(0);
+    private void updateOccupancy(int cell, int value, int delta) {
+        if (value != 0) {
+            for (int kind = 0; kind < 3; kind++) {
+                updateUnit(unitOf(cell, kind), value, delta);
+            }
+        }
+    }
+
+    private void updateUnit(int unit, int value, int delta) {
+        int slot = unit * geometry.size + value - 1;
+        int before = unitCounts[slot];
+        int after = before + delta;
+        unitCounts[slot] = (byte) after;
+        if (before < 2 && after >= 2) {
+            conflicts++;
+        } else if (before >= 2 && after < 2) {
+            conflicts--;
+        }
+        if (after > 0) {
+            unitMasks[unit] |= 1 << (value - 1);
+        } else {
+            unitMasks[unit] &= ~(1 << (value - 1));
+        }
+    }
+
+    private boolean conflictsAfterMove(int cell, int value) {
+        checkValue(value);
+        int oldValue = cells[cell];
+        int after = conflicts;
+        for (int kind = 0; kind < 3; kind++) {
+            int unit = unitOf(cell, kind);
+            int oldCount = oldValue == 0 ? 0 : unitCounts[unit * geometry.size + oldValue - 1];
+            if (oldCount == 2 && oldValue != value) {
+                after--;
+            }
+            if (value != 0 && oldValue != value && unitCounts[unit * geometry.size + value - 1] == 1) {
+                after++;
+            }
+        }
+        return after != 0;
+    }
+
+    private int unitOf(int cell, int kind) {
+        return geometry.unitOf(cell, kind);
+    }
+
+    private void checkValue(int value) {
+        if (value < 0 || value > geometry.size) {
+            logger.error("Number entered was not between 0 and " + geometry.size);
+            throw new IllegalArgumentException("Number must be between 0 and " + geometry.size + ".");
+        }
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField stored = in.readFields();
+        sudokuSolver = (SudokuSolver) stored.get("sudokuSolver", null);
+        if (stored.getObjectStreamClass().getField("board") != null) {
+            boxSize = 3;
+            cells = legacyCells((SudokuField[][]) stored.get("board", null));
+        } else {
+            // boards saved before box sizes existed carry no boxSize and are always 9x9
+            int storedBoxSize = stored.get("boxSize", 0);
+            boxSize = storedBoxSize == 0 ? 3 : storedBoxSize;
+            cells = (byte[]) stored.get("cells", null);
+            solution = (byte[]) stored.get("solution", null);
+        }
+        if (!SudokuGeometry.isSupported(boxSize)) {
+            logger.error("Serialized board has unsupported box size " + boxSize);
+            throw new InvalidObjectException("Unsupported box size.");
+        }
+        geometry = SudokuGeometry.of(boxSize);
+        if (cells == null || cells.length != geometry.cells
+                || solution != null && solution.length != geometry.cells) {
+            logger.error("Serialized board does not hold " + geometry.cells + " cells for box size " + boxSize);
+            throw new InvalidObjectException("Cell count does not match box size.");
+        }
+        for (byte value : cells) {
+            if (value < 0 || value > geometry.size) {
+                logger.error("Serialized board holds out-of-range value " + value);
+                throw new InvalidObjectException("Cell value out of range.");
+            }
+        }
+        initializeOccupancy();
+    }
+
+    // the original layout stored a 9x9 grid of SudokuField objects plus row, column and box views of it
+    private static byte[] legacyCells(SudokuField[][] board) throws InvalidObjectException {
+        int size = SudokuGeometry.STANDARD.size;
+        if (board == null || board.length != size) {
+            logger.error("Serialized legacy board is not a 9x9 grid");
+            throw new InvalidObjectException("Legacy board is not a 9x9 grid.");
+        }
+        byte[] cells = new byte[size * size];
+        for (int row = 0; row < size; row++) {
+            if (board[row] == null || board[row].length != size) {
+                logger.error("Serialized legacy board row " + row + " is not 9 cells long");
+                throw new InvalidObjectException("Legacy board is not a 9x9 grid.");
+            }
+            for (int col = 0; col < size; col++) {
+                int value = board[row][col] == null ? 0 : board[row][col].getValue();
+                if (value < 0 || value > size) {
+                    logger.error("Serialized legacy board holds out-of-range value " + value);
+                    throw new InvalidObjectException("Cell value out of range.");
+                }
+                cells[row * size + col] = (byte) value;
+            }
+        }
+        return cells;
+    }
+
+    private int cellIndex(int row, int col) {
+        if (row < 0 || row >= geometry.size || col < 0 || col >= geometry.size) {
+            logger.error("Cell (" + row + ", " + col + ") is outside the board");
+            throw new ArrayIndexOutOfBoundsException("Cell (" + row + ", " + col + ") is outside the "
+                    + geometry.size + "x" + geometry.size + " board.");
+        }
+        return row * geometry.size + col;
+    }
+
+    /**
+     * Registers a listener for cell changes. A single move outside an update fires an indexed {@code "cell"}
+     * event carrying the cell index in row-major order with the old and new value. A batch closed by
+     * {@link #endUpdate()} fires one {@code "cells"} event whose old and new values are snapshots of the whole
+     * board from before and after the batch.
+     *
+     * @param listener listener to notify
+     */
+    public void addPropertyChangeListener(PropertyChangeListener listener) {
+        if (propertyChangeSupport == null) {
+            propertyChangeSupport = new PropertyChangeSupport(this);
+        }
+        propertyChangeSupport.addPropertyChangeListener(listener);
+    }
+
+    public void removePropertyChangeListener(PropertyChangeListener listener) {
+        if (propertyChangeSupport != null) {
+            propertyChangeSupport.removePropertyChangeListener(listener);
+        }
+    }
+
+    /**
+     * Opens a batch of changes. Until the matching outermost {@link #endUpdate()}, neither the board's listeners
+     * nor its {@link SudokuField} views are notified; the batch then reports each changed field once with its
+     * value from before the batch, and fires a single {@code "cells"} event for the board.
+     */
+    public void beginUpdate() {
+        if (updateDepth++ == 0 && (fields != null || propertyChangeSupport != null)) {
+            updateStart = cells.clone();
+        }
+    }
+
+    public void endUpdate() {
+        if (updateDepth == 0) {
+            logger.error("endUpdate called without matching beginUpdate");
+            throw new IllegalStateException("No update in progress.");
+        }
+        if (--updateDepth == 0 && updateStart != null) {
+            byte[] start = updateStart;
+            updateStart = null;
+            boolean changed = false;
+            for (int cell = 0; cell < geometry.cells; cell++) {
+                if (start[cell] != cells[cell]) {
+                    changed = true;
+                    if (fields != null && fields[cell] != null) {
+                        fields[cell].valueChanged(start[cell], cells[cell]);
+                    }
+                }
             }
+            if (changed && propertyChangeSupport != null) {
+                propertyChangeSupport.firePropertyChange("cells", start, cells.clone());
+            }
+        }
+    }
+
+    public byte[] snapshot() {
+        return cells.clone();
+    }
+
+    public void restore(byte[] snapshot) {
+        if (snapshot.length != geometry.cells) {
+            logger.error("Snapshot has wrong length: " + snapshot.length);
+            throw new IllegalArgumentException("Snapshot must contain " + geometry.cells + " cells.");
+        }
+        for (byte value : snapshot) {
+            checkValue(value);
+        }
+        beginUpdate();
+        try {
+            System.arraycopy(snapshot, 0, cells, 0, geometry.cells);
+            rebuildOccupancy();
+        } finally {
+            endUpdate();
         }
-        return board;
     }
 
     public void removeFields(Difficulty difficulty) {
+        byte[] filled = solution == null && conflicts == 0 && isFilled() ? cells.clone() : solution;
+        beginUpdate();
+        try {
+            removeRandomFields(difficulty);
+        } finally {
+            endUpdate();
+        }
+        // Random removal can leave several solutions, and then the filled grid cannot judge moves. Uniqueness is
+        // only checked on 9x9 boards: proving it for a sparse 25x25 puzzle can take minutes.
+        solution = filled != null && geometry.size == SudokuUnits.SIZE && sudokuSolver.countSolutions(this, 2) == 1
+                ? filled : null;
+        rebuildMismatches();
+    }
+
+    private void removeRandomFields(Difficulty difficulty) {
         Random random = new Random();
-        int cellsToRemove = 81 - difficulty.getCellsToFill();
+        // clue counts are defined for 9x9 boards, so larger boards keep the same proportion of givens
+        int cellsToRemove = geometry.cells - difficulty.getCellsToFill() * geometry.cells / SudokuUnits.CELLS;
         for (int i = 0; i < cellsToRemove; i++) {
             int r;
             int c;
             do {
-                r = random.nextInt(9);
-                c = random.nextInt(9);
+                r = random.nextInt(geometry.size);
+                c = random.nextInt(geometry.size);
             } while (get(r, c) == 0);
             set(r, c, 0);
         }
     }
 
-    private SudokuRow[] initializeRows(SudokuField[][] board) {
-        SudokuRow[] rows = new SudokuRow[9];
-        for (int r = 0; r < 9; r++) {
-            rows[r] = new SudokuRow(board[r]);
-        }
-        return rows;
-    }
-
-    private SudokuColumn[] initializeColumns(SudokuField[][] board) {
-        SudokuColumn[] columns = new SudokuColumn[9];
-        for (int c = 0; c < 9; c++) {
-            SudokuField[] column = new SudokuField[9];
-            for (int r = 0; r < 9; r++) {
-                column[r] = board[r][c];
+    private boolean isFilled() {
+        for (byte value : cells) {
+            if (value == 0) {
+                return false;
             }
-            columns[c] = new SudokuColumn(column);
         }
-        return columns;
+        return true;
     }
 
-    private SudokuBox[] initializeBoxes(SudokuField[][] board) {
-        SudokuBox[] boxes = new SudokuBox[9];
-        SudokuField[][] boxesFields = new SudokuField[9][9];
+    public boolean hasSolution() {
+        return solution != null;
+    }
 
-        for (int r = 0; r < 9; r++) {
-            for (int c = 0; c < 9; c++) {
-                int boxNumber = r / 3 * 3 + c / 3;
-                int inBoxPos = r % 3 * 3 + c % 3;
-                boxesFields[boxNumber][inBoxPos] = board[r][c];
+    public void setSolution(byte[] solution) {
+        if (solution != null) {
+            SudokuBoard check = new SudokuBoard(sudokuSolver, boxSize);
+            check.restore(solution);
+            if (!check.isFilled() || !check.checkBoard()) {
+                logger.error("Stored solution is not a complete valid board");
+                throw new IllegalArgumentException("Solution must be a complete valid board.");
             }
+            for (int cell = 0; cell < geometry.cells; cell++) {
+                if (cells[cell] != 0 && cells[cell] != solution[cell]) {
+                    logger.error("Stored solution disagrees with the filled cells");
+                    throw new IllegalArgumentException("Solution must agree with the filled cells.");
+                }
+            }
+            solution = solution.clone();
         }
+        this.solution = solution;
+        rebuildMismatches();
+    }
 
-        for (int i = 0; i < 9; i++) {
-            boxes[i] = new SudokuBox(boxesFields[i]);
-        }
-
-        return boxes;
+    public byte[] getSolution() {
+        return solution == null ? null : solution.clone();
     }
 
     public void solveGame() {
-        sudokuSolver.solve(this);
+        beginUpdate();
+        try {
+            sudokuSolver.solve(this);
+        } finally {
+            endUpdate();
+        }
     }
 
     public boolean solveable() {
+        if (solution != null && mismatches == 0) {
+            return true;
+        }
         return sudokuSolver.solvable(this);
     }
 
+    public boolean hasUniqueSolution() {
+        return sudokuSolver.countSolutions(this, 2) == 1;
+    }
+
     public int get(int row, int col) {
-        return board[row][col].getValue();
+        return cells[cellIndex(row, col)];
+    }
+
+    int getCell(int cell) {
+        return cells[cell];
     }
 
     public void set(int row, int col, int val) {
-        board[row][col].setValue(val);
+        setCell(cellIndex(row, col), val);
     }
 
     public void set(int row, int col, int val, boolean isFinalMove) throws IllegalArgumentException {
-        int previousValue = board[row][col].getValue();
+        if (isFinalMove && conflictsAfterMove(cellIndex(row, col), val)) {
+            logger.error("Impossible move");
+            throw new IllegalArgumentException("Impossible move.");
+        }
 
         set(row, col, val);
+    }
 
-        if (isFinalMove && !checkBoard()) {
-            set(row, col, previousValue);
-            logger.error("Impossible move");
-            throw new IllegalArgumentException("Impossible move.");
+    void setCell(int cell, int val) {
+        checkValue(val);
+        int oldValue = cells[cell];
+        cells[cell] = (byte) val;
+        if (oldValue != val) {
+            updateOccupancy(cell, oldValue, -1);
+            updateOccupancy(cell, val, 1);
+            zobristHash ^= geometry.zobrist[cell][oldValue] ^ geometry.zobrist[cell][val];
+            if (solution != null) {
+                mismatches += mismatch(cell, val) - mismatch(cell, oldValue);
+            }
+        }
+        if (updateDepth == 0) {
+            if (fields != null && fields[cell] != null) {
+                fields[cell].valueChanged(oldValue, val);
+            }
+            if (propertyChangeSupport != null && oldValue != val) {
+                propertyChangeSupport.fireIndexedPropertyChange("cell", cell, oldValue, val);
+            }
         }
     }
 
     public SudokuField getField(int row, int col) {
-        return board[row][col];
+        if (fields == null) {
+            fields = new SudokuField[geometry.cells];
+        }
+        int cell = cellIndex(row, col);
+        if (fields[cell] == null) {
+            fields[cell] = new SudokuField(this, cell);
+        }
+        return fields[cell];
     }
 
     public SudokuRow getRow(int r) {
-        if (r >= 0 && r < 9) {
-            return rows[r];
+        if (r >= 0 && r < geometry.size) {
+            return new SudokuRow(this, geometry.units[r]);
         } else {
             logger.error("Failed to get row");
             throw new IllegalArgumentException("Row index out of bounds");
@@ -146,8 +456,8 @@ public class SudokuBoard implements Cloneable, Serializable {
     }
 
     public SudokuColumn getColumn(int c) {
-        if (c >= 0 && c < 9) {
-            return columns[c];
+        if (c >= 0 && c < geometry.size) {
+            return new SudokuColumn(this, geometry.units[geometry.size + c]);
         } else {
             logger.error("Failed to get column");
             throw new IllegalArgumentException("Column index out of bounds");
@@ -155,56 +465,87 @@ public class SudokuBoard implements Cloneable, Serializable {
     }
 
     public SudokuBox getBox(int row, int col) {
-        int boxIndex = row / 3 * 3 + col / 3;
-        if (boxIndex >= 0 && boxIndex < 9) {
-            return boxes[boxIndex];
+        if (row >= 0 && row < geometry.size && col >= 0 && col < geometry.size) {
+            int boxIndex = geometry.boxOf[row * geometry.size + col];
+            return new SudokuBox(this, geometry.units[2 * geometry.size + boxIndex]);
         } else {
             logger.error("Failed to get box");
             throw new IllegalArgumentException("Box index out of bounds");
         }
     }
 
+    public int getBoxSize() {
+        return geometry.boxSize;
+    }
+
+    public int getSize() {
+        return geometry.size;
+    }
+
+    SudokuGeometry getGeometry() {
+        return geometry;
+    }
+
+    public long getZobristHash() {
+        return zobristHash;
+    }
+
+    boolean hasCells(byte[] other) {
+        return Arrays.equals(cells, other);
+    }
+
     public SudokuSolver getSudokuSolver() {
         return sudokuSolver;
     }
 
     public boolean isValidMove(int row, int col, int value) {
         if (value != 0) {
-            set(row, col, value);
-            boolean valid = checkBoard();
-            set(row, col, 0);
-            return valid;
+            int cell = cellIndex(row, col);
+            if (conflicts == 0 && cells[cell] == 0 && value > 0 && value <= geometry.size) {
+                int used = unitMasks[unitOf(cell, 0)] | unitMasks[unitOf(cell, 1)] | unitMasks[unitOf(cell, 2)];
+                return (used & 1 << (value - 1)) == 0;
+            }
+            return !conflictsAfterMove(cell, value);
         }
         return true;
     }
 
-    public boolean checkBoard() {
-        for (int i = 0; i < 9; i++) {
-            if (!rows[i].verify() || !columns[i].verify() || !boxes[i].verify()) {
-                return false;
-            }
+    public boolean isCorrectMove(int row, int col, int value) {
+        checkValue(value);
+        int cell = cellIndex(row, col);
+        if (value == 0) {
+            return true;
+        }
+        if (solution != null) {
+            return solution[cell] == value;
+        }
+        if (!isValidMove(row, col, value)) {
+            return false;
+        }
+        int oldValue = cells[cell];
+        beginUpdate();
+        try {
+            setCell(cell, value);
+            return sudokuSolver.solvable(this);
+        } finally {
+            setCell(cell, oldValue);
+            endUpdate();
         }
-        return true;
+    }
+
+    public boolean checkBoard() {
+        return conflicts == 0;
     }
 
     @Override
     public SudokuBoard clone() {
-        SudokuBoard sudokuBoard1 = new SudokuBoard(sudokuSolver);
-        for (int r = 0; r < 9; r++) {
-            for (int c = 0; c < 9; c++) {
-                sudokuBoard1.set(r, c, get(r, c));
-            }
-        }
-        return sudokuBoard1;
+        return new SudokuBoard(this);
     }
 
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
-                .add("board", board)
-                .add("rows", rows)
-                .add("columns", columns)
-                .add("boxes", boxes)
+                .add("cells", Arrays.toString(cells))
                 .add("sudokuSolver", sudokuSolver)
                 .toString();
     }
@@ -219,14 +560,13 @@ public class SudokuBoard implements Cloneable, Serializable {
             return false;
         }
         final SudokuBoard other = (SudokuBoard) obj;
-        return Arrays.deepEquals(this.board, other.board);
+        return zobristHash == other.zobristHash && Arrays.equals(this.cells, other.cells);
     }
 
 
     @Override
     public int hashCode() {
-        return Objects.hash(
-                Arrays.deepHashCode(this.board)
-        );
+        // the Zobrist hash is maintained on every write, so hashing never walks the cells
+        return Long.hashCode(zobristHash);
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+/**
+ * Compact, versioned encoding of a board: a magic number, the format version, the box size, a flag byte, the
+ * cell values and, when the board knows it, the solution. Values are packed two per byte while they fit in four
+ * bits, so a 9x9 board takes 46 bytes, or 87 with its solution. The solver is not stored; boards are read back
+ * with the solver this codec was created with.
+ */
+public class SudokuBoardCodec implements BinaryCodec<SudokuBoard> {
+    private static final Logger logger = LogManager.getLogger(SudokuBoardCodec.class);
+    static final short MAGIC = 0x5342;
+    static final byte VERSION = 1;
+    private static final int HAS_SOLUTION = 1;
+
+    private final SudokuSolver sudokuSolver;
+
+    public SudokuBoardCodec(SudokuSolver sudokuSolver) {
+        this.sudokuSolver = sudokuSolver;
+    }
+
+    @Override
+    public void write(DataOutput out, SudokuBoard board) throws IOException {
+        byte[] solution = board.getSolution();
+        out.writeShort(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(board.getBoxSize());
+        out.writeByte(solution != null ? HAS_SOLUTION : 0);
+        writeValues(out, board.snapshot(), board.getSize());
+        if (solution != null) {
+            writeValues(out, solution, board.getSize());
+        }
+    }
+
+    @Override
+    public SudokuBoard read(DataInput in) throws IOException {
+        if (in.readShort() != MAGIC) {
+            logger.error("Data does not start with a board header");
+            throw new StreamCorruptedException("Not an encoded Sudoku board.");
+        }
+        int version = in.readByte();
+        if (version != VERSION) {
+            logger.error("Unsupported board encoding version: " + version);
+            throw new StreamCorruptedException("Unsupported board encoding version: " + version);
+        }
+        int boxSize = in.readByte();
+        int flags = in.readByte();
+        if (!SudokuGeometry.isSupported(boxSize)) {
+            logger.error("Encoded board has unsupported box size: " + boxSize);
+            throw new StreamCorruptedException("Unsupported box size: " + boxSize);
+        }
+        SudokuBoard board = new SudokuBoard(sudokuSolver, boxSize);
+        int size = board.getSize();
+        try {
+            board.restore(readValues(in, size));
+            if ((flags & HAS_SOLUTION) != 0) {
+                board.setSolution(readValues(in, size));
+            }
+        } catch (IllegalArgumentException e) {
+            logger.error("Encoded board contains invalid values", e);
+            throw new StreamCorruptedException("Encoded board contains invalid values.");
+        }
+        return board;
+    }
+
+    private static boolean packed(int size) {
+        return size < 16;
+    }
+
+    private static void writeValues(DataOutput out, byte[] values, int size) throws IOException {
+        if (!packed(size)) {
+            out.write(values);
+            return;
+        }
+        byte[] bytes = new byte[(values.length + 1) / 2];
+        for (int i = 0; i < values.length; i++) {
+            bytes[i / 2] |= (byte) (i % 2 == 0 ? values[i] << 4 : values[i]);
+        }
+        out.write(bytes);
+    }
+
+    private static byte[] readValues(DataInput in, int size) throws IOException {
+        byte[] values = new byte[size * size];
+        if (!packed(size)) {
+            in.readFully(values);
+            return values;
+        }
+        byte[] bytes = new byte[(values.length + 1) / 2];
+        in.readFully(bytes);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (byte) (i % 2 == 0 ? bytes[i / 2] >>> 4 & 0xF : bytes[i / 2] & 0xF);
+        }
+        return values;
+    }
+}
@@ -1,11 +1,46 @@
 package org.example;
 
 public class SudokuBoardDaoFactory {
+    private static JdbcConnectionPool sharedPool;
+
     public static FileSudokuBoardDao getFileSudokuBoardDao(String directory) {
         return new FileSudokuBoardDao(directory);
     }
 
+    public static FileSudokuBoardDao getFileSudokuBoardDao(String directory, SudokuSolver sudokuSolver) {
+        return new FileSudokuBoardDao(directory, sudokuSolver);
+    }
+
+    /**
+     * Returns a DAO backed by a process-wide pool, so repeated calls reuse open connections.
+     *
+     * @return a per-cell DAO on the shared pool
+     */
     public static JdbcSudokuBoardDao getJdbcSudokuBoardDao() {
-        return new JdbcSudokuBoardDao();
+        return new JdbcSudokuBoardDao(sharedPool());
+    }
+
+    public static JdbcSudokuBoardDao getJdbcSudokuBoardDao(JdbcConnectionPool pool) {
+        return new JdbcSudokuBoardDao(pool);
+    }
+
+    /**
+     * Returns a DAO for the one-row-per-board layout, sharing the same pool as the per-cell DAO.
+     *
+     * @return a packed DAO on the shared pool
+     */
+    public static PackedJdbcSudokuBoardDao getPackedJdbcSudokuBoardDao() {
+        return new PackedJdbcSudokuBoardDao(sharedPool());
+    }
+
+    public static PackedJdbcSudokuBoardDao getPackedJdbcSudokuBoardDao(JdbcConnectionPool pool) {
+        return new PackedJdbcSudokuBoardDao(pool);
+    }
+
+    private static synchronized JdbcConnectionPool sharedPool() {
+        if (sharedPool == null) {
+            sharedPool = JdbcConnectionPool.fromConfiguration();
+        }
+        return sharedPool;
     }
 }
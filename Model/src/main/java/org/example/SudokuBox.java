@@ -17,7 +17,13 @@
 package org.example;
 
 public class SudokuBox extends SudokuGroup {
+    private static final long serialVersionUID = -9034461429246497273L;
+
     public SudokuBox(SudokuField[] fields) {
         super(fields);
     }
+
+    SudokuBox(SudokuBoard board, int[] cells) {
+        super(board, cells);
+    }
 }
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import static org.example.SudokuUnits.CELLS;
+import static org.example.SudokuUnits.SIZE;
+
+/**
+ * Maps a board to the lexicographically smallest board reachable by transposition, band and stack
+ * permutations, row and column swaps inside a band or stack, and digit relabelling. Empty cells sort
+ * first, so two puzzles are the same up to these symmetries exactly when their canonical forms match.
+ */
+public class SudokuCanonicalizer {
+    private static final int[][] TRIPLE_PERMUTATIONS = {
+        {0, 1, 2}, {0, 2, 1}, {1, 0, 2}, {1, 2, 0}, {2, 0, 1}, {2, 1, 0}
+    };
+
+    public SudokuBoard canonicalize(SudokuBoard board) {
+        SudokuBoard canonical = new SudokuBoard(board.getSudokuSolver());
+        canonical.restore(canonicalCells(board));
+        return canonical;
+    }
+
+    public String canonicalKey(SudokuBoard board) {
+        byte[] cells = canonicalCells(board);
+        char[] key = new char[CELLS];
+        for (int i = 0; i < CELLS; i++) {
+            key[i] = (char) ('0' + cells[i]);
+        }
+        return new String(key);
+    }
+
+    public byte[] canonicalCells(SudokuBoard board) {
+        SudokuUnits.requireStandard(board, SudokuCanonicalizer.class);
+        byte[] grid = board.snapshot();
+        byte[] transposed = new byte[CELLS];
+        for (int i = 0; i < CELLS; i++) {
+            transposed[i] = grid[i % SIZE * SIZE + i / SIZE];
+        }
+        Search search = new Search();
+        search.run(grid);
+        search.run(transposed);
+        return search.best;
+    }
+
+    /**
+     * Branch and bound over the layout. The top row and the column order are chosen first, one stack at a
+     * time, and the remaining rows are then laid out top to bottom. Digits are relabelled in order of first
+     * appearance, and a branch is dropped as soon as its newest segment compares greater than the same
+     * segment of the best board found so far.
+     */
+    private static final class Search {
+        private final byte[] best = new byte[CELLS];
+        private final byte[] current = new byte[CELLS];
+        private final int[][] labels = new int[SIZE + 1][SIZE + 1];
+        private final int[] nextLabel = new int[SIZE + 1];
+        private final int[] bandOfRow = new int[SIZE];
+        private boolean hasBest;
+        private long improvements;
+        private final int[] columns = new int[SIZE];
+        private byte[] grid;
+
+        void run(byte[] grid) {
+            this.grid = grid;
+            nextLabel[0] = 1;
+            for (int source = 0; source < SIZE; source++) {
+                bandOfRow[0] = source / 3;
+                System.arraycopy(labels[0], 0, labels[1], 0, SIZE + 1);
+                nextLabel[1] = 1;
+                placeStack(source, 0, 0, !hasBest);
+            }
+        }
+
+        private void placeStack(int source, int stack, int usedStacks, boolean less) {
+            if (stack == 3) {
+                place(1, 1 << source, 1 << source / 3, less);
+                return;
+            }
+            // labels[1] holds the relabelling of the top row so far; stacks placed later only extend it
+            int[] saved = labels[1].clone();
+            int savedNext = nextLabel[1];
+            for (int target = 0; target < 3; target++) {
+                if ((usedStacks & 1 << target) != 0) {
+                    continue;
+                }
+                for (int[] inner : TRIPLE_PERMUTATIONS) {
+                    System.arraycopy(saved, 0, labels[1], 0, SIZE + 1);
+                    int next = savedNext;
+                    int order = 0;
+                    for (int i = 0; i < 3; i++) {
+                        int c = stack * 3 + i;
+                        columns[c] = target * 3 + inner[i];
+                        int value = grid[source * SIZE + columns[c]];
+                        if (value != 0) {
+                            if (labels[1][value] == 0) {
+                                labels[1][value] = next++;
+                            }
+                            value = labels[1][value];
+                        }
+                        current[c] = (byte) value;
+                        if (order == 0 && hasBest) {
+                            order = Integer.compare(value, best[c]);
+                        }
+                    }
+                    if (order > 0 && !less) {
+                        continue;
+                    }
+                    nextLabel[1] = next;
+                    long before = improvements;
+                    placeStack(source, stack + 1, usedStacks | 1 << target, less || order < 0);
+                    if (improvements != before) {
+                        less = false;
+                    }
+                }
+            }
+        }
+
+        private void place(int row, int usedRows, int usedBands, boolean less) {
+            // rows from 1 on are laid out against the column order fixed by placeStack
+            if (row == SIZE) {
+                System.arraycopy(current, 0, best, 0, CELLS);
+                hasBest = true;
+                improvements++;
+                return;
+            }
+            for (int source = 0; source < SIZE; source++) {
+                if ((usedRows & 1 << source) != 0) {
+                    continue;
+                }
+                if (row % 3 == 0 ? (usedBands & 1 << source / 3) != 0 : source / 3 != bandOfRow[row - 1]) {
+                    continue;
+                }
+                int order = layRow(row, source);
+                if (order > 0 && !less) {
+                    continue;
+                }
+                long before = improvements;
+                place(row + 1, usedRows | 1 << source, usedBands | 1 << source / 3, less || order < 0);
+                if (improvements != before) {
+                    // the new best shares every row above this one, so siblings must now compare against it
+                    less = false;
+                }
+            }
+        }
+
+        private int layRow(int row, int source) {
+            int[] map = labels[row + 1];
+            System.arraycopy(labels[row], 0, map, 0, SIZE + 1);
+            int next = nextLabel[row];
+            int order = 0;
+            int offset = row * SIZE;
+            for (int c = 0; c < SIZE; c++) {
+                int value = grid[source * SIZE + columns[c]];
+                if (value != 0) {
+                    if (map[value] == 0) {
+                        map[value] = next++;
+                    }
+                    value = map[value];
+                }
+                current[offset + c] = (byte) value;
+                if (order == 0 && hasBest) {
+                    order = Integer.compare(value, best[offset + c]);
+                }
+            }
+            nextLabel[row + 1] = next;
+            bandOfRow[row] = source / 3;
+            return order;
+        }
+    }
+}
@@ -17,7 +17,13 @@
 package org.example;
 
 public class SudokuColumn extends SudokuGroup {
+    private static final long serialVersionUID = -3085585658271720357L;
+
     public SudokuColumn(SudokuField[] fields) {
         super(fields);
     }
+
+    SudokuColumn(SudokuBoard board, int[] cells) {
+        super(board, cells);
+    }
 }
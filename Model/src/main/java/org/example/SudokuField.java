@@ -20,19 +20,28 @@ import com.google.common.base.MoreObjects;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
 import java.io.Serializable;
 import java.util.Objects;
 import javax.annotation.Nullable;
 
 public class SudokuField implements Cloneable, Serializable, Comparable<SudokuField> {
+    private static final long serialVersionUID = -8950295535531586167L;
     private static final Logger logger = LogManager.getLogger(SudokuField.class);
     private int value;
     private PropertyChangeSupport propertyChangeSupport;
+    private transient SudokuBoard board;
+    private transient int index;
 
     public SudokuField(int value) {
         this.value = value;
-        this.propertyChangeSupport = new PropertyChangeSupport(this);
+    }
+
+    SudokuField(SudokuBoard board, int index) {
+        this(board.getCell(index));
+        this.board = board;
+        this.index = index;
     }
 
 
@@ -41,21 +50,46 @@ public class SudokuField implements Cloneable, Serializable, Comparable<SudokuFi
     }
 
     public void setValue(int value) {
-        if (value < 0 || value > 9) {
-            logger.error("Number entered was not between 0 and 9");
-            throw new IllegalArgumentException("Number must be between 0 and 9.");
+        if (board != null) {
+            // the board checks the value against its own size
+            board.setCell(index, value);
+            return;
+        }
+        int maxValue = SudokuGeometry.MAX_BOX_SIZE * SudokuGeometry.MAX_BOX_SIZE;
+        if (value < 0 || value > maxValue) {
+            logger.error("Number entered was not between 0 and " + maxValue);
+            throw new IllegalArgumentException("Number must be between 0 and " + maxValue + ".");
         }
-        int oldValue = this.value;
+        valueChanged(this.value, value);
+    }
+
+    void valueChanged(int oldValue, int value) {
         this.value = value;
-        if (value != 0) {
+        if (value != 0 && propertyChangeSupport != null) {
             propertyChangeSupport.firePropertyChange("value", oldValue, value);
         }
     }
 
+    public void addPropertyChangeListener(PropertyChangeListener listener) {
+        if (propertyChangeSupport == null) {
+            propertyChangeSupport = new PropertyChangeSupport(this);
+        }
+        propertyChangeSupport.addPropertyChangeListener(listener);
+    }
+
+    public void removePropertyChangeListener(PropertyChangeListener listener) {
+        if (propertyChangeSupport != null) {
+            propertyChangeSupport.removePropertyChangeListener(listener);
+        }
+    }
+
     @Override
     public SudokuField clone() {
         try {
-            return (SudokuField) super.clone();
+            SudokuField sudokuField = (SudokuField) super.clone();
+            sudokuField.board = null;
+            sudokuField.propertyChangeSupport = null;
+            return sudokuField;
         } catch (CloneNotSupportedException e) {
             logger.error(SudokuField.class + " does not support logging", e);
             throw new RuntimeException(e);
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class SudokuGenerator {
+    private static final Logger logger = LogManager.getLogger(SudokuGenerator.class);
+    private final SudokuSolver sudokuSolver;
+    private final Random random;
+    private final SudokuGrader grader = new SudokuGrader();
+
+    public SudokuGenerator(SudokuSolver sudokuSolver) {
+        this(sudokuSolver, new Random());
+    }
+
+    public SudokuGenerator(SudokuSolver sudokuSolver, Random random) {
+        this.sudokuSolver = sudokuSolver;
+        this.random = random;
+    }
+
+    public GeneratedPuzzle generate(Difficulty difficulty) {
+        return generate(difficulty.getCellsToFill(), Symmetry.NONE);
+    }
+
+    public GeneratedPuzzle generate(int targetClues, Symmetry symmetry) {
+        if (targetClues < 0 || targetClues > 81) {
+            logger.error("Target clue count out of range: " + targetClues);
+            throw new IllegalArgumentException("Target clue count must be between 0 and 81.");
+        }
+        SudokuBoard board = new SudokuBoard(sudokuSolver.clone());
+        byte[] solution = randomSolution();
+        board.restore(solution);
+        int solverCalls = 1;
+
+        int clues = 81;
+        for (int[] orbit : removalOrder(symmetry)) {
+            if (clues == targetClues) {
+                break;
+            }
+            if (clues - orbit.length < targetClues) {
+                continue;
+            }
+            for (int cell : orbit) {
+                board.set(cell / 9, cell % 9, 0);
+            }
+            solverCalls++;
+            if (sudokuSolver.countSolutions(board, 2) == 1) {
+                clues -= orbit.length;
+            } else {
+                for (int cell : orbit) {
+                    board.set(cell / 9, cell % 9, solution[cell]);
+                }
+            }
+        }
+        if (clues > targetClues) {
+            logger.debug("Puzzle became minimal at " + clues + " clues, target was " + targetClues);
+        }
+        board.setSolution(solution);
+        return new GeneratedPuzzle(board, solution, clues, solverCalls);
+    }
+
+    public GeneratedPuzzle generateGraded(Difficulty difficulty, int maxAttempts) {
+        if (maxAttempts < 1) {
+            logger.error("Invalid number of grading attempts: " + maxAttempts);
+            throw new IllegalArgumentException("Number of attempts must be positive.");
+        }
+        GeneratedPuzzle puzzle = null;
+        for (int attempt = 0; attempt < maxAttempts; attempt++) {
+            puzzle = generate(difficulty);
+            if (grader.grade(puzzle.getBoard()).getDifficulty() == difficulty) {
+                return puzzle;
+            }
+        }
+        logger.debug("No puzzle graded " + difficulty + " after " + maxAttempts + " attempts");
+        return puzzle;
+    }
+
+    // Solvers randomise with ThreadLocalRandom, so the grid is drawn from this generator's Random instead: the
+    // three diagonal boxes share no row, column or box and take independent permutations, and a deterministic
+    // search completes the grid. A seeded generator therefore reproduces the same puzzles.
+    private byte[] randomSolution() {
+        SudokuBoard board = new SudokuBoard(sudokuSolver);
+        List<Integer> digits = new ArrayList<>(9);
+        for (int digit = 1; digit <= 9; digit++) {
+            digits.add(digit);
+        }
+        for (int box = 0; box < 3; box++) {
+            Collections.shuffle(digits, random);
+            for (int i = 0; i < 9; i++) {
+                board.set(box * 3 + i / 3, box * 3 + i % 3, digits.get(i));
+            }
+        }
+        BitmaskSearch search = new BitmaskSearch(SudokuGeometry.STANDARD, false);
+        if (!search.load(board) || !search.search()) {
+            logger.error("Could not complete a grid from its diagonal boxes");
+            throw new IllegalStateException("Could not complete a grid from its diagonal boxes.");
+        }
+        search.writeTo(board);
+        return board.snapshot();
+    }
+
+    private List<int[]> removalOrder(Symmetry symmetry) {
+        List<int[]> orbits = new ArrayList<>();
+        boolean[] seen = new boolean[81];
+        for (int cell = 0; cell < 81; cell++) {
+            if (!seen[cell]) {
+                int[] orbit = symmetry.orbit(cell / 9, cell % 9);
+                for (int member : orbit) {
+                    seen[member] = true;
+                }
+                orbits.add(orbit);
+            }
+        }
+        Collections.shuffle(orbits, random);
+        return orbits;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import java.util.SplittableRandom;
+
+/**
+ * Lookup tables for a board with boxes of {@code boxSize} x {@code boxSize} cells. Candidate sets are int
+ * bitsets, which caps the box size at 5 (25 x 25 boards).
+ */
+final class SudokuGeometry {
+    static final int MIN_BOX_SIZE = 2;
+    static final int MAX_BOX_SIZE = 5;
+
+    private static final SudokuGeometry[] GEOMETRIES = new SudokuGeometry[MAX_BOX_SIZE + 1];
+
+    static {
+        for (int boxSize = MIN_BOX_SIZE; boxSize <= MAX_BOX_SIZE; boxSize++) {
+            GEOMETRIES[boxSize] = new SudokuGeometry(boxSize);
+        }
+    }
+
+    static final SudokuGeometry STANDARD = GEOMETRIES[3];
+
+    final int boxSize;
+    final int size;
+    final int cells;
+    final int all;
+
+    final int[] rowOf;
+    final int[] colOf;
+    final int[] boxOf;
+
+    /**
+     * Rows come first, then columns, then boxes, {@code size} units each.
+     */
+    final int[][] units;
+    final int[][] peers;
+
+    /** Random key per (cell, value); value 0 maps to 0 so empty cells do not contribute. */
+    final long[][] zobrist;
+
+    private SudokuGeometry(int boxSize) {
+        this.boxSize = boxSize;
+        this.size = boxSize * boxSize;
+        this.cells = size * size;
+        this.all = (1 << size) - 1;
+        rowOf = new int[cells];
+        colOf = new int[cells];
+        boxOf = new int[cells];
+        units = new int[3 * size][size];
+        peers = new int[cells][3 * size - 2 * boxSize - 1];
+        zobrist = new long[cells][size + 1];
+
+        for (int i = 0; i < cells; i++) {
+            rowOf[i] = i / size;
+            colOf[i] = i % size;
+            boxOf[i] = rowOf[i] / boxSize * boxSize + colOf[i] / boxSize;
+        }
+        int[] filled = new int[3 * size];
+        for (int i = 0; i < cells; i++) {
+            units[rowOf[i]][filled[rowOf[i]]++] = i;
+            units[size + colOf[i]][filled[size + colOf[i]]++] = i;
+            units[2 * size + boxOf[i]][filled[2 * size + boxOf[i]]++] = i;
+        }
+        for (int i = 0; i < cells; i++) {
+            int count = 0;
+            for (int j = 0; j < cells; j++) {
+                if (i != j && (rowOf[i] == rowOf[j] || colOf[i] == colOf[j] || boxOf[i] == boxOf[j])) {
+                    peers[i][count++] = j;
+                }
+            }
+        }
+        SplittableRandom random = new SplittableRandom(0x5EED_50D0_C0DEL + boxSize);
+        for (int i = 0; i < cells; i++) {
+            for (int value = 1; value <= size; value++) {
+                zobrist[i][value] = random.nextLong();
+            }
+        }
+    }
+
+    static boolean isSupported(int boxSize) {
+        return boxSize >= MIN_BOX_SIZE && boxSize <= MAX_BOX_SIZE;
+    }
+
+    static SudokuGeometry of(int boxSize) {
+        return GEOMETRIES[boxSize];
+    }
+
+    int unitOf(int cell, int kind) {
+        return switch (kind) {
+            case 0 -> rowOf[cell];
+            case 1 -> size + colOf[cell];
+            default -> 2 * size + boxOf[cell];
+        };
+    }
+}
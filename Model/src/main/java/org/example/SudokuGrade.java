@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import com.google.common.base.MoreObjects;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+public class SudokuGrade {
+    private final Technique hardestTechnique;
+    private final int[] usage;
+
+    SudokuGrade(Technique hardestTechnique, int[] usage) {
+        this.hardestTechnique = hardestTechnique;
+        this.usage = usage.clone();
+    }
+
+    public Technique getHardestTechnique() {
+        return hardestTechnique;
+    }
+
+    public boolean isSolvedLogically() {
+        return hardestTechnique != Technique.GUESS;
+    }
+
+    public int getUsage(Technique technique) {
+        return usage[technique.ordinal()];
+    }
+
+    public Difficulty getDifficulty() {
+        return hardestTechnique.getDifficulty();
+    }
+
+    @Override
+    public String toString() {
+        Map<Technique, Integer> used = new EnumMap<>(Technique.class);
+        for (Technique technique : Technique.values()) {
+            if (usage[technique.ordinal()] > 0) {
+                used.put(technique, usage[technique.ordinal()]);
+            }
+        }
+        return MoreObjects.toStringHelper(this)
+                .add("hardestTechnique", hardestTechnique)
+                .add("usage", used)
+                .toString();
+    }
+}
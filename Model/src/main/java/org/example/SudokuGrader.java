@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import static org.example.SudokuUnits.ALL;
+import static org.example.SudokuUnits.BOX_OF;
+import static org.example.SudokuUnits.CELLS;
+import static org.example.SudokuUnits.COL_OF;
+import static org.example.SudokuUnits.PEERS;
+import static org.example.SudokuUnits.ROW_OF;
+import static org.example.SudokuUnits.SIZE;
+import static org.example.SudokuUnits.UNITS;
+
+public class SudokuGrader {
+
+    public SudokuGrade grade(SudokuBoard board) {
+        SudokuUnits.requireStandard(board, SudokuGrader.class);
+        Grading grading = new Grading();
+        return grading.run(board);
+    }
+
+    private static final class Grading {
+        private final int[] masks = new int[CELLS];
+        private final int[] values = new int[CELLS];
+        private final int[] usage = new int[Technique.values().length];
+        private final int[] positions = new int[SIZE];
+        private final int[] lines = new int[SIZE];
+        private int unsolved = CELLS;
+        private boolean contradiction;
+
+        SudokuGrade run(SudokuBoard board) {
+            for (int i = 0; i < CELLS; i++) {
+                masks[i] = ALL;
+            }
+            for (int i = 0; i < CELLS; i++) {
+                int value = board.get(ROW_OF[i], COL_OF[i]);
+                if (value != 0) {
+                    assign(i, value);
+                }
+            }
+            Technique hardest = Technique.NAKED_SINGLE;
+            while (unsolved > 0 && !contradiction) {
+                Technique applied = step();
+                if (applied == null) {
+                    hardest = Technique.GUESS;
+                    break;
+                }
+                usage[applied.ordinal()]++;
+                if (applied.compareTo(hardest) > 0) {
+                    hardest = applied;
+                }
+            }
+            if (contradiction) {
+                hardest = Technique.GUESS;
+            }
+            return new SudokuGrade(hardest, usage);
+        }
+
+        private Technique step() {
+            if (nakedSingle()) {
+                return Technique.NAKED_SINGLE;
+            }
+            if (hiddenSingle()) {
+                return Technique.HIDDEN_SINGLE;
+            }
+            if (pointing()) {
+                return Technique.POINTING;
+            }
+            if (claiming()) {
+                return Technique.CLAIMING;
+            }
+            if (nakedPair()) {
+                return Technique.NAKED_PAIR;
+            }
+            if (hiddenPair()) {
+                return Technique.HIDDEN_PAIR;
+            }
+            if (fish(2)) {
+                return Technique.X_WING;
+            }
+            if (fish(3)) {
+                return Technique.SWORDFISH;
+            }
+            if (xyWing()) {
+                return Technique.XY_WING;
+            }
+            return null;
+        }
+
+        private boolean nakedSingle() {
+            boolean progress = false;
+            for (int i = 0; i < CELLS && !contradiction; i++) {
+                if (values[i] == 0 && Integer.bitCount(masks[i]) == 1) {
+                    assign(i, Integer.numberOfTrailingZeros(masks[i]) + 1);
+                    progress = true;
+                }
+            }
+            return progress;
+        }
+
+        private boolean hiddenSingle() {
+            for (int[] unit : UNITS) {
+                int seenOnce = 0;
+                int seenTwice = 0;
+                for (int cell : unit) {
+                    if (values[cell] == 0) {
+                        seenTwice |= seenOnce & masks[cell];
+                        seenOnce |= masks[cell];
+                    }
+                }
+                int singles = seenOnce & ~seenTwice;
+                if (singles != 0) {
+                    int bit = singles & -singles;
+                    for (int cell : unit) {
+                        if (values[cell] == 0 && (masks[cell] & bit) != 0) {
+                            assign(cell, Integer.numberOfTrailingZeros(bit) + 1);
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean pointing() {
+            boolean progress = false;
+            for (int box = 0; box < SIZE; box++) {
+                for (int bit = 1; bit <= ALL; bit <<= 1) {
+                    int rows = 0;
+                    int cols = 0;
+                    for (int cell : UNITS[2 * SIZE + box]) {
+                        if (values[cell] == 0 && (masks[cell] & bit) != 0) {
+                            rows |= 1 << ROW_OF[cell];
+                            cols |= 1 << COL_OF[cell];
+                        }
+                    }
+                    if (Integer.bitCount(rows) == 1) {
+                        progress |= eliminateFromUnit(UNITS[Integer.numberOfTrailingZeros(rows)], bit, box, -1);
+                    }
+                    if (Integer.bitCount(cols) == 1) {
+                        progress |= eliminateFromUnit(UNITS[SIZE + Integer.numberOfTrailingZeros(cols)], bit,
+                                box, -1);
+                    }
+                    if (progress) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean claiming() {
+            for (int line = 0; line < 2 * SIZE; line++) {
+                for (int bit = 1; bit <= ALL; bit <<= 1) {
+                    int boxes = 0;
+                    for (int cell : UNITS[line]) {
+                        if (values[cell] == 0 && (masks[cell] & bit) != 0) {
+                            boxes |= 1 << BOX_OF[cell];
+                        }
+                    }
+                    if (Integer.bitCount(boxes) == 1
+                            && eliminateFromUnit(UNITS[2 * SIZE + Integer.numberOfTrailingZeros(boxes)], bit, -1,
+                            line)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean eliminateFromUnit(int[] unit, int bit, int keepBox, int keepLine) {
+            boolean progress = false;
+            for (int cell : unit) {
+                if (BOX_OF[cell] == keepBox || inLine(cell, keepLine)) {
+                    continue;
+                }
+                progress |= eliminate(cell, bit);
+            }
+            return progress;
+        }
+
+        private boolean inLine(int cell, int line) {
+            if (line < 0) {
+                return false;
+            }
+            return line < SIZE ? ROW_OF[cell] == line : COL_OF[cell] == line - SIZE;
+        }
+
+        private boolean nakedPair() {
+            for (int[] unit : UNITS) {
+                for (int a = 0; a < SIZE; a++) {
+                    int first = unit[a];
+                    if (values[first] != 0 || Integer.bitCount(masks[first]) != 2) {
+                        continue;
+                    }
+                    for (int b = a + 1; b < SIZE; b++) {
+                        int second = unit[b];
+                        if (values[second] == 0 && masks[second] == masks[first]) {
+                            boolean progress = false;
+                            for (int cell : unit) {
+                                if (cell != first && cell != second) {
+                                    progress |= eliminate(cell, masks[first]);
+                                }
+                            }
+                            if (progress) {
+                                return true;
+                            }
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean hiddenPair() {
+            for (int[] unit : UNITS) {
+                for (int digit = 0; digit < SIZE; digit++) {
+                    positions[digit] = 0;
+                }
+                for (int i = 0; i < SIZE; i++) {
+                    int cell = unit[i];
+                    if (values[cell] == 0) {
+                        for (int digit = 0; digit < SIZE; digit++) {
+                            if ((masks[cell] & 1 << digit) != 0) {
+                                positions[digit] |= 1 << i;
+                            }
+                        }
+                    }
+                }
+                for (int d1 = 0; d1 < SIZE; d1++) {
+                    if (Integer.bitCount(positions[d1]) != 2) {
+                        continue;
+                    }
+                    for (int d2 = d1 + 1; d2 < SIZE; d2++) {
+                        if (positions[d2] != positions[d1]) {
+                            continue;
+                        }
+                        int keep = 1 << d1 | 1 << d2;
+                        boolean progress = false;
+                        for (int i = 0; i < SIZE; i++) {
+                            if ((positions[d1] & 1 << i) != 0) {
+                                progress |= eliminate(unit[i], ALL & ~keep);
+                            }
+                        }
+                        if (progress) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean fish(int size) {
+            for (int bit = 1; bit <= ALL; bit <<= 1) {
+                if (fish(size, bit, true) || fish(size, bit, false)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean fish(int size, int bit, boolean byRows) {
+            for (int line = 0; line < SIZE; line++) {
+                lines[line] = 0;
+                for (int cell : UNITS[byRows ? line : SIZE + line]) {
+                    if (values[cell] == 0 && (masks[cell] & bit) != 0) {
+                        lines[line] |= 1 << (byRows ? COL_OF[cell] : ROW_OF[cell]);
+                    }
+                }
+            }
+            return fish(size, bit, byRows, 0, 0, 0);
+        }
+
+        private boolean fish(int size, int bit, boolean byRows, int start, int baseSet, int coverSet) {
+            if (Integer.bitCount(baseSet) == size) {
+                if (Integer.bitCount(coverSet) != size) {
+                    return false;
+                }
+                boolean progress = false;
+                for (int cover = 0; cover < SIZE; cover++) {
+                    if ((coverSet & 1 << cover) == 0) {
+                        continue;
+                    }
+                    for (int cell : UNITS[byRows ? SIZE + cover : cover]) {
+                        int base = byRows ? ROW_OF[cell] : COL_OF[cell];
+                        if ((baseSet & 1 << base) == 0) {
+                            progress |= eliminate(cell, bit);
+                        }
+                    }
+                }
+                return progress;
+            }
+            for (int line = start; line < SIZE; line++) {
+                int count = Integer.bitCount(lines[line]);
+                if (count < 2 || count > size || Integer.bitCount(coverSet | lines[line]) > size) {
+                    continue;
+                }
+                if (fish(size, bit, byRows, line + 1, baseSet | 1 << line, coverSet | lines[line])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean xyWing() {
+            for (int pivot = 0; pivot < CELLS; pivot++) {
+                if (values[pivot] != 0 || Integer.bitCount(masks[pivot]) != 2) {
+                    continue;
+                }
+                for (int first : PEERS[pivot]) {
+                    int shared = masks[first] & masks[pivot];
+                    if (values[first] != 0 || Integer.bitCount(masks[first]) != 2 || Integer.bitCount(shared) != 1) {
+                        continue;
+                    }
+                    int target = masks[first] & ~shared;
+                    int wanted = (masks[pivot] & ~shared) | target;
+                    for (int second : PEERS[pivot]) {
+                        if (second == first || values[second] != 0 || masks[second] != wanted) {
+                            continue;
+                        }
+                        boolean progress = false;
+                        for (int cell : PEERS[first]) {
+                            if (cell != second && cell != pivot && sees(cell, second)) {
+                                progress |= eliminate(cell, target);
+                            }
+                        }
+                        if (progress) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }
+
+        private boolean sees(int a, int b) {
+            return ROW_OF[a] == ROW_OF[b] || COL_OF[a] == COL_OF[b] || BOX_OF[a] == BOX_OF[b];
+        }
+
+        private void assign(int cell, int value) {
+            int bit = 1 << (value - 1);
+            if ((masks[cell] & bit) == 0 || values[cell] != 0) {
+                contradiction = true;
+                return;
+            }
+            values[cell] = value;
+            masks[cell] = bit;
+            unsolved--;
+            for (int peer : PEERS[cell]) {
+                if (values[peer] == 0) {
+                    eliminate(peer, bit);
+                }
+            }
+        }
+
+        private boolean eliminate(int cell, int bits) {
+            if (values[cell] != 0 || (masks[cell] & bits) == 0) {
+                return false;
+            }
+            masks[cell] &= ~bits;
+            if (masks[cell] == 0) {
+                contradiction = true;
+            }
+            return true;
+        }
+    }
+}
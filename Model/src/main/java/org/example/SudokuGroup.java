@@ -22,33 +22,58 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.Serializable;
 import java.util.Arrays;
-import java.util.Objects;
 
 public class SudokuGroup implements Cloneable, Serializable {
+    private static final long serialVersionUID = -8923863993390690565L;
     private static final Logger logger = LogManager.getLogger(SudokuGroup.class);
 
     private SudokuField[] fields;
+    private SudokuBoard board;
+    private int[] cells;
 
     public SudokuGroup(SudokuField[] fields) {
         this.fields = fields.clone();
     }
 
+    SudokuGroup(SudokuBoard board, int[] cells) {
+        this.board = board;
+        this.cells = cells;
+    }
+
     public int getFieldValue(int index) {
-        return fields[index].getValue();
+        return board != null ? board.getCell(cells[index]) : fields[index].getValue();
     }
 
     public void setFieldValue(int index, int val) {
-        fields[index].setValue(val);
+        if (board != null) {
+            board.setCell(cells[index], val);
+        } else {
+            fields[index].setValue(val);
+        }
     }
 
-    public boolean verify() {
-        int[] numberCount = new int[10];
-        for (int i = 0; i < 9; i++) {
-            numberCount[getFieldValue(i)]++;
+    public int size() {
+        return board != null ? cells.length : fields.length;
+    }
+
+    private int[] values() {
+        int[] values = new int[size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = getFieldValue(i);
         }
-        for (int i = 1; i <= 9; i++) {
-            if (numberCount[i] > 1) {
-                return false;
+        return values;
+    }
+
+    public boolean verify() {
+        int seen = 0;
+        for (int i = 0; i < size(); i++) {
+            int value = getFieldValue(i);
+            if (value != 0) {
+                int bit = 1 << (value - 1);
+                if ((seen & bit) != 0) {
+                    return false;
+                }
+                seen |= bit;
             }
         }
         return true;
@@ -66,6 +91,8 @@ public class SudokuGroup implements Cloneable, Serializable {
         }
 
         sudokuGroup.fields = this.fields;
+        sudokuGroup.board = this.board;
+        sudokuGroup.cells = this.cells;
 
         return sudokuGroup;
     }
@@ -73,7 +100,7 @@ public class SudokuGroup implements Cloneable, Serializable {
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
-                .add("fields", fields)
+                .add("fields", Arrays.toString(values()))
                 .toString();
     }
 
@@ -86,11 +113,11 @@ public class SudokuGroup implements Cloneable, Serializable {
             return false;
         }
         final SudokuGroup other = (SudokuGroup) obj;
-        return Arrays.equals(this.fields, other.fields);
+        return Arrays.equals(values(), other.values());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash((Object[]) this.fields);
+        return Arrays.hashCode(values());
     }
 }
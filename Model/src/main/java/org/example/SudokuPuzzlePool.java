@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+public class SudokuPuzzlePool implements AutoCloseable {
+    private static final Logger logger = LogManager.getLogger(SudokuPuzzlePool.class);
+
+    private final Map<Difficulty, BlockingQueue<GeneratedPuzzle>> puzzles = new EnumMap<>(Difficulty.class);
+    private final BlockingQueue<Difficulty> refillRequests = new LinkedBlockingQueue<>();
+    private final SudokuGenerator generator;
+    private final SudokuGenerator fallbackGenerator;
+    private final Thread refillThread;
+
+    public SudokuPuzzlePool(SudokuSolver sudokuSolver, int capacityPerDifficulty) {
+        if (capacityPerDifficulty < 1) {
+            logger.error("Invalid puzzle pool capacity: " + capacityPerDifficulty);
+            throw new IllegalArgumentException("Pool capacity must be positive.");
+        }
+        this.generator = new SudokuGenerator(sudokuSolver.clone(), new Random());
+        // take() falls back to its own generator so an empty pool never waits for the refill thread.
+        this.fallbackGenerator = new SudokuGenerator(sudokuSolver.clone(), new Random());
+        for (Difficulty difficulty : Difficulty.values()) {
+            puzzles.put(difficulty, new ArrayBlockingQueue<>(capacityPerDifficulty));
+        }
+        // Queue one puzzle of each difficulty per round so every difficulty gets a puzzle early.
+        for (int i = 0; i < capacityPerDifficulty; i++) {
+            refillRequests.addAll(puzzles.keySet());
+        }
+        this.refillThread = new Thread(this::refill, "puzzle-pool-refill");
+        this.refillThread.setDaemon(true);
+        this.refillThread.start();
+    }
+
+    public GeneratedPuzzle take(Difficulty difficulty) {
+        GeneratedPuzzle puzzle = puzzles.get(difficulty).poll();
+        if (puzzle == null) {
+            logger.warn("Puzzle pool for " + difficulty + " is empty, generating synchronously");
+            synchronized (fallbackGenerator) {
+                puzzle = fallbackGenerator.generate(difficulty);
+            }
+        }
+        refillRequests.add(difficulty);
+        return puzzle;
+    }
+
+    public int size(Difficulty difficulty) {
+        return puzzles.get(difficulty).size();
+    }
+
+    private void refill() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                Difficulty difficulty = refillRequests.take();
+                try {
+                    puzzles.get(difficulty).offer(generator.generate(difficulty));
+                } catch (RuntimeException e) {
+                    logger.error("Could not generate " + difficulty + " puzzle for the pool", e);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public void close() {
+        refillThread.interrupt();
+    }
+}
@@ -17,7 +17,13 @@
 package org.example;
 
 public class SudokuRow extends SudokuGroup {
+    private static final long serialVersionUID = -5557970820648413453L;
+
     public SudokuRow(SudokuField[] fields) {
         super(fields);
     }
+
+    SudokuRow(SudokuBoard board, int[] cells) {
+        super(board, cells);
+    }
 }
@@ -16,9 +16,26 @@
 
 package org.example;
 
+import java.util.concurrent.atomic.AtomicBoolean;
+
 public interface SudokuSolver extends Cloneable {
     void solve(SudokuBoard board);
+
     boolean solvable(SudokuBoard board);
 
+    /**
+     * Checks solvability, stopping early once {@code cancelled} is set if the engine supports it. Engines that do
+     * not check the flag run to completion.
+     *
+     * @param board board to check, left unchanged
+     * @param cancelled flag another thread sets to stop the search, or null to run to completion
+     * @return whether the board can be completed; meaningless once {@code cancelled} has been set
+     */
+    default boolean solvable(SudokuBoard board, AtomicBoolean cancelled) {
+        return solvable(board);
+    }
+
+    int countSolutions(SudokuBoard board, int limit);
+
     SudokuSolver clone();
 }
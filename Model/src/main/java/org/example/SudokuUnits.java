@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/** Tables for the standard 9 x 9 board, shared by the engines that only handle that size. */
+final class SudokuUnits {
+    private static final Logger logger = LogManager.getLogger(SudokuUnits.class);
+    static final int SIZE = 9;
+    static final int CELLS = SIZE * SIZE;
+    static final int ALL = (1 << SIZE) - 1;
+
+    static final int[] ROW_OF = SudokuGeometry.STANDARD.rowOf;
+    static final int[] COL_OF = SudokuGeometry.STANDARD.colOf;
+    static final int[] BOX_OF = SudokuGeometry.STANDARD.boxOf;
+
+    /** Rows are units 0-8, columns 9-17 and boxes 18-26. */
+    static final int[][] UNITS = SudokuGeometry.STANDARD.units;
+    static final int[][] PEERS = SudokuGeometry.STANDARD.peers;
+    static final long[][] ZOBRIST = SudokuGeometry.STANDARD.zobrist;
+
+    private SudokuUnits() {
+    }
+
+    static void requireStandard(SudokuBoard board, Class<?> engine) {
+        if (board.getBoxSize() != 3) {
+            logger.error(engine.getSimpleName() + " was given a " + board.getSize() + "x" + board.getSize() + " board");
+            throw new IllegalArgumentException(engine.getSimpleName() + " only supports 9x9 boards.");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+public enum Symmetry {
+    NONE,
+    ROTATIONAL, // 180 degree rotation around the centre cell
+    MIRROR, // left-right reflection
+    DIAGONAL; // reflection across the main diagonal
+
+    public int[] orbit(int row, int col) {
+        int mirroredRow = row;
+        int mirroredCol = col;
+        switch (this) {
+            case ROTATIONAL -> {
+                mirroredRow = 8 - row;
+                mirroredCol = 8 - col;
+            }
+            case MIRROR -> mirroredCol = 8 - col;
+            case DIAGONAL -> {
+                mirroredRow = col;
+                mirroredCol = row;
+            }
+            default -> {
+                return new int[] {row * 9 + col};
+            }
+        }
+        if (mirroredRow == row && mirroredCol == col) {
+            return new int[] {row * 9 + col};
+        }
+        return new int[] {row * 9 + col, mirroredRow * 9 + mirroredCol};
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2024 Vladislav Sevtsenko
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.example;
+
+public enum Technique {
+    NAKED_SINGLE(Difficulty.EASY),
+    HIDDEN_SINGLE(Difficulty.EASY),
+    POINTING(Difficulty.MEDIUM),
+    CLAIMING(Difficulty.MEDIUM),
+    NAKED_PAIR(Difficulty.MEDIUM),
+    HIDDEN_PAIR(Difficulty.MEDIUM),
+    X_WING(Difficulty.HARD),
+    SWORDFISH(Difficulty.HARD),
+    XY_WING(Difficulty.HARD),
+    GUESS(Difficulty.HARD); // no logical technique applies, the solver has to branch
+
+    private final Difficulty difficulty;
+
+    Technique(Difficulty difficulty) {
+        this.difficulty = difficulty;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+}
@@ -0,0 +1,45 @@
+import org.example.BatchPuzzleGenerator;
+import org.example.ConstraintPropagationSudokuSolver;
+import org.example.Difficulty;
+import org.example.GeneratedPuzzle;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public class BatchPuzzleGeneratorTests {
+    @Test
+    public void generatesRequestedNumberOfPuzzles() throws InterruptedException {
+        List<GeneratedPuzzle> puzzles = new ArrayList<>();
+        try (BatchPuzzleGenerator generator = new BatchPuzzleGenerator(new ConstraintPropagationSudokuSolver(), 4, 2)) {
+            generator.generate(Difficulty.EASY, 20, puzzles::add);
+        }
+
+        Assertions.assertEquals(20, puzzles.size());
+        for (GeneratedPuzzle puzzle : puzzles) {
+            Assertions.assertEquals(45, puzzle.getClues());
+            Assertions.assertTrue(puzzle.getBoard().hasUniqueSolution());
+        }
+    }
+
+    @Test
+    public void generatesPuzzlesForEveryDifficulty() throws InterruptedException {
+        Map<Difficulty, Integer> counts = new EnumMap<>(Difficulty.class);
+        try (BatchPuzzleGenerator generator = new BatchPuzzleGenerator(new ConstraintPropagationSudokuSolver(), 2, 1)) {
+            generator.generateAll(3, (difficulty, puzzle) -> counts.merge(difficulty, 1, Integer::sum));
+        }
+
+        for (Difficulty difficulty : Difficulty.values()) {
+            Assertions.assertEquals(3, counts.get(difficulty));
+        }
+    }
+
+    @Test
+    public void invalidConfigurationIsRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new BatchPuzzleGenerator(new ConstraintPropagationSudokuSolver(), 0, 1));
+    }
+}
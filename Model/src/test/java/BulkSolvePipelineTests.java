@@ -0,0 +1,94 @@
+import org.example.BitmaskSudokuSolver;
+import org.example.BulkSolvePipeline;
+import org.example.BulkSolveReport;
+import org.example.ConstraintPropagationSudokuSolver;
+import org.example.Difficulty;
+import org.example.GeneratedPuzzle;
+import org.example.SudokuGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class BulkSolvePipelineTests {
+    private static final String PUZZLE =
+            "..3.2.6..9..3.5..1..18.64....81.29..7.......8..67.82....26.95..8..2.3..9..5.1.3..";
+    private static final String SOLUTION =
+            "483921657967345821251876493548132976729564138136798245372689514814253769695417382";
+
+    private static String line(byte[] cells) {
+        StringBuilder text = new StringBuilder();
+        for (byte value : cells) {
+            text.append(value);
+        }
+        return text.toString();
+    }
+
+    @Test
+    public void solutionsAreWrittenInInputOrder() throws Exception {
+        SudokuGenerator generator = new SudokuGenerator(new ConstraintPropagationSudokuSolver(), new Random(4));
+        List<String> expected = new ArrayList<>();
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 60; i++) {
+            GeneratedPuzzle puzzle = generator.generate(Difficulty.MEDIUM);
+            input.append(line(puzzle.getBoard().snapshot()).replace('0', '.')).append('\n');
+            expected.add(line(puzzle.getSolution()));
+        }
+        StringWriter output = new StringWriter();
+
+        BulkSolveReport report;
+        try (BulkSolvePipeline pipeline = new BulkSolvePipeline(new ConstraintPropagationSudokuSolver(), 3, 7)) {
+            report = pipeline.solve(new StringReader(input.toString()), output);
+        }
+
+        Assertions.assertEquals(expected, List.of(output.toString().split("\n")));
+        Assertions.assertEquals(60, report.getSolved());
+        Assertions.assertTrue(report.getPuzzlesPerSecond() > 0);
+    }
+
+    @Test
+    public void badLinesAreReportedInPlace() throws Exception {
+        String unsolvable = "11" + PUZZLE.substring(2);
+        String input = PUZZLE + "\n\n" + "12345\n" + unsolvable + "\n" + PUZZLE.replace('.', '0') + "\n";
+        StringWriter output = new StringWriter();
+
+        BulkSolveReport report;
+        try (BulkSolvePipeline pipeline = new BulkSolvePipeline(new BitmaskSudokuSolver(), 2, 1)) {
+            report = pipeline.solve(new StringReader(input), output);
+        }
+
+        Assertions.assertEquals(SOLUTION + "\ninvalid\nunsolvable\n" + SOLUTION + "\n", output.toString());
+        Assertions.assertEquals(4, report.getPuzzles());
+        Assertions.assertEquals(2, report.getSolved());
+        Assertions.assertEquals(1, report.getInvalid());
+        Assertions.assertEquals(1, report.getUnsolvable());
+    }
+
+    @Test
+    public void filesAreStreamed(@TempDir Path directory) throws Exception {
+        Path input = directory.resolve("puzzles.txt");
+        Path output = directory.resolve("solutions.txt");
+        Files.write(input, Collections.nCopies(5000, PUZZLE));
+
+        BulkSolveReport report;
+        try (BulkSolvePipeline pipeline = new BulkSolvePipeline(new ConstraintPropagationSudokuSolver())) {
+            report = pipeline.solve(input, output);
+        }
+
+        List<String> lines = Files.readAllLines(output);
+        Assertions.assertEquals(5000, lines.size());
+        Assertions.assertTrue(lines.stream().allMatch(SOLUTION::equals));
+        Assertions.assertEquals(5000, report.getPuzzles());
+        Assertions.assertEquals(5000, report.getSolved());
+        Assertions.assertEquals(0, report.getInvalid());
+        Assertions.assertEquals(0, report.getUnsolvable());
+    }
+}
@@ -1,10 +1,20 @@
 import org.example.BacktrackingSudokuSolver;
 import org.example.Dao;
 import org.example.SudokuBoard;
+import org.example.SudokuBoardCodec;
 import org.example.SudokuBoardDaoFactory;
+import org.example.BitmaskSudokuSolver;
+import org.example.Difficulty;
+import org.example.FileSudokuBoardDao;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 
@@ -53,6 +63,83 @@ public class FileSudokuBoardDaoTest {
         }
     }
 
+    @Test
+    public void testCompactWriteAndRead() throws Exception {
+        SudokuBoard sudokuBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+        sudokuBoard.solveGame();
+        byte[] solved = sudokuBoard.snapshot();
+        sudokuBoard.removeFields(Difficulty.HARD);
+        sudokuBoard.setSolution(solved);
+
+        try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getFileSudokuBoardDao(tempDir.toString(),
+                new BitmaskSudokuSolver())) {
+            dao.write(testFileName, sudokuBoard);
+            SudokuBoard loadedBoard = dao.read(testFileName);
+
+            assertEquals(87, Files.size(tempDir.resolve(testFileName)));
+            assertEquals(sudokuBoard, loadedBoard);
+            assertArrayEquals(sudokuBoard.getSolution(), loadedBoard.getSolution());
+            assertEquals(new BitmaskSudokuSolver(), loadedBoard.getSudokuSolver());
+        }
+    }
+
+    @Test
+    public void testCompactDaoReadsSerializedFilesOnlyAfterMigration() throws Exception {
+        SudokuBoard sudokuBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+        setup.setBoard(setup.defaultBoard, sudokuBoard);
+        try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getFileSudokuBoardDao(tempDir.toString())) {
+            dao.write(testFileName, sudokuBoard);
+        }
+
+        try (FileSudokuBoardDao dao = SudokuBoardDaoFactory.getFileSudokuBoardDao(tempDir.toString(),
+                new BitmaskSudokuSolver())) {
+            assertThrows(IllegalStateException.class, () -> dao.read(testFileName));
+            assertTrue(dao.migrate(testFileName));
+            assertFalse(dao.migrate(testFileName));
+            assertEquals(sudokuBoard, dao.read(testFileName));
+            assertEquals(46, Files.size(tempDir.resolve(testFileName)));
+            Files.write(tempDir.resolve("corrupted.dat"), new byte[]{0x53, 0x42, 9, 3, 0});
+            assertThrows(RuntimeException.class, () -> dao.read("corrupted.dat"));
+        }
+    }
+
+    @Test
+    public void testCodecKeepsLargeBoards() throws Exception {
+        SudokuBoard sudokuBoard = new SudokuBoard(new BitmaskSudokuSolver(), 4);
+        sudokuBoard.set(0, 0, 16);
+        sudokuBoard.set(15, 15, 9);
+        SudokuBoardCodec codec = new SudokuBoardCodec(new BitmaskSudokuSolver());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        codec.write(new DataOutputStream(bytes), sudokuBoard);
+        SudokuBoard loadedBoard = codec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(5 + 256, bytes.size());
+        assertEquals(4, loadedBoard.getBoxSize());
+        assertEquals(sudokuBoard, loadedBoard);
+        assertFalse(loadedBoard.hasSolution());
+    }
+
+    @Test
+    public void testCodecKeepsLargeBoardSolutions() throws Exception {
+        SudokuBoard sudokuBoard = new SudokuBoard(new BitmaskSudokuSolver(), 4);
+        sudokuBoard.solveGame();
+        byte[] solved = sudokuBoard.snapshot();
+        sudokuBoard.set(0, 0, 0);
+        sudokuBoard.set(15, 15, 0);
+        sudokuBoard.setSolution(solved);
+        SudokuBoardCodec codec = new SudokuBoardCodec(new BitmaskSudokuSolver());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        codec.write(new DataOutputStream(bytes), sudokuBoard);
+        SudokuBoard loadedBoard = codec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(5 + 2 * 256, bytes.size());
+        assertEquals(sudokuBoard, loadedBoard);
+        assertArrayEquals(solved, loadedBoard.getSolution());
+        assertTrue(loadedBoard.isCorrectMove(0, 0, solved[0]));
+    }
+
 //    @Test
 //    public void testReadWithRuntimeException() throws Exception {
 //        Path filePath = tempDir.resolve("corruptedData.dat");
@@ -79,4 +166,31 @@ public class FileSudokuBoardDaoTest {
 //            fail("Setup of unwritable file should not fail.", e);
 //        }
 //    }
-}
\ No newline at end of file
+
+    @Test
+    public void testReadsBoardSavedInOriginalFieldLayout() throws Exception {
+        try (InputStream legacy = getClass().getResourceAsStream("/legacySudokuBoard.txt")) {
+            Files.copy(legacy, tempDir.resolve("legacy.txt"));
+        }
+        try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getFileSudokuBoardDao(tempDir.toString())) {
+            SudokuBoard loadedBoard = dao.read("legacy.txt");
+
+            assertArrayEquals(setup.defaultBoard, setup.getBoard(loadedBoard));
+            assertInstanceOf(BacktrackingSudokuSolver.class, loadedBoard.getSudokuSolver());
+            assertTrue(loadedBoard.checkBoard());
+            assertFalse(loadedBoard.isValidMove(0, 0, 1));
+            loadedBoard.set(0, 0, 2);
+            assertEquals(2, loadedBoard.getRow(0).getFieldValue(0));
+        }
+    }
+
+    @Test
+    public void testReadsRepositorySaveFile() throws Exception {
+        try (Dao<SudokuBoard> dao = SudokuBoardDaoFactory.getFileSudokuBoardDao("daos")) {
+            SudokuBoard loadedBoard = dao.read("sudoku.txt");
+
+            assertEquals(9, loadedBoard.getSize());
+            assertTrue(loadedBoard.checkBoard());
+        }
+    }
+}
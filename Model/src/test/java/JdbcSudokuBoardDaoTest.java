@@ -1,11 +1,29 @@
 import org.example.*;
+import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class JdbcSudokuBoardDaoTest {
     SudokuTestSetup setup = new SudokuTestSetup();
     String testName = "testBoard";
+
+    // Without explicit configuration the tests run against the docker-compose database.
+    @BeforeAll
+    static void configureTestDatabase() {
+        if (System.getProperty("sudoku.jdbc.password") == null && System.getenv("SUDOKU_JDBC_PASSWORD") == null) {
+            System.setProperty("sudoku.jdbc.password", "postgres");
+        }
+    }
+
     @Test
     public void testWriteAndReadSudokuBoardJdbc() throws Exception {
         SudokuBoard sudokuBoard = new SudokuBoard(new BacktrackingSudokuSolver());
@@ -21,4 +39,88 @@ public class JdbcSudokuBoardDaoTest {
         assertNotSame(sudokuBoard, loadedBoard);
         assertEquals(sudokuBoard, loadedBoard);
     }
+
+    @Test
+    public void testWriteAllInOneTransaction() throws Exception {
+        Map<String, SudokuBoard> boards = new LinkedHashMap<>();
+        for (int i = 0; i < 3; i++) {
+            SudokuBoard sudokuBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+            sudokuBoard.solveGame();
+            boards.put(testName + i, sudokuBoard);
+        }
+        try (JdbcSudokuBoardDao dao = SudokuBoardDaoFactory.getJdbcSudokuBoardDao()) {
+            dao.writeAll(boards);
+            for (Map.Entry<String, SudokuBoard> entry : boards.entrySet()) {
+                assertEquals(entry.getValue(), dao.read(entry.getKey()));
+                dao.delete(entry.getKey());
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentWritersShareOnePool() throws Exception {
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try (JdbcConnectionPool pool = JdbcConnectionPool.fromConfiguration(2);
+             JdbcSudokuBoardDao dao = SudokuBoardDaoFactory.getJdbcSudokuBoardDao(pool)) {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String name = testName + "Concurrent" + i;
+                results.add(executor.submit(() -> {
+                    SudokuBoard sudokuBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+                    sudokuBoard.solveGame();
+                    dao.write(name, sudokuBoard);
+                    boolean same = sudokuBoard.equals(dao.read(name));
+                    dao.delete(name);
+                    return same;
+                }));
+            }
+            for (Future<Boolean> result : results) {
+                assertTrue(result.get());
+            }
+            assertTrue(pool.getOpenConnections() <= 2);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPackedWriteAndReadKeepsGivensAndSolution() {
+        SudokuBoard sudokuBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+        sudokuBoard.solveGame();
+        byte[] solved = sudokuBoard.snapshot();
+        sudokuBoard.removeFields(Difficulty.EASY);
+        sudokuBoard.setSolution(solved);
+        boolean[] givens = new boolean[81];
+        for (int i = 0; i < 81; i++) {
+            givens[i] = sudokuBoard.get(i / 9, i % 9) != 0;
+        }
+        try (PackedJdbcSudokuBoardDao dao = SudokuBoardDaoFactory.getPackedJdbcSudokuBoardDao()) {
+            dao.write(testName, sudokuBoard, givens);
+            SudokuBoard loadedBoard = dao.read(testName);
+            assertEquals(sudokuBoard, loadedBoard);
+            assertArrayEquals(sudokuBoard.getSolution(), loadedBoard.getSolution());
+            assertArrayEquals(givens, dao.readGivens(testName));
+            dao.write(testName, sudokuBoard);
+            assertNull(dao.readGivens(testName));
+            assertTrue(dao.names().contains(testName));
+            dao.delete(testName);
+            assertNull(dao.read(testName));
+        }
+    }
+
+    @Test
+    public void testMigrateFieldRowsToPackedTable() throws Exception {
+        SudokuBoard sudokuBoard = new SudokuBoard(new BacktrackingSudokuSolver());
+        setup.setBoard(setup.defaultBoard, sudokuBoard);
+        try (JdbcSudokuBoardDao fieldDao = SudokuBoardDaoFactory.getJdbcSudokuBoardDao();
+             PackedJdbcSudokuBoardDao packedDao = SudokuBoardDaoFactory.getPackedJdbcSudokuBoardDao()) {
+            fieldDao.write(testName, sudokuBoard);
+            assertTrue(packedDao.migrateFromFieldTable() >= 1);
+            assertEquals(sudokuBoard, packedDao.read(testName));
+            assertNull(packedDao.readGivens(testName));
+            fieldDao.delete(testName);
+            packedDao.delete(testName);
+        }
+    }
 }
@@ -0,0 +1,119 @@
+import org.example.BitmaskSudokuSolver;
+import org.example.ConstraintPropagationSudokuSolver;
+import org.example.Difficulty;
+import org.example.PuzzleBank;
+import org.example.PuzzleBankWriter;
+import org.example.SudokuBoard;
+import org.example.SudokuGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class PuzzleBankTests {
+    @TempDir
+    Path directory;
+
+    @Test
+    public void puzzlesAreReadBackByDifficultyAndIndex() throws IOException {
+        SudokuGenerator generator = new SudokuGenerator(new ConstraintPropagationSudokuSolver(), new Random(6));
+        List<byte[]> easy = new ArrayList<>();
+        List<byte[]> hard = new ArrayList<>();
+        Path path = directory.resolve("bank.sdkb");
+        try (PuzzleBankWriter writer = new PuzzleBankWriter(path)) {
+            for (int i = 0; i < 5; i++) {
+                easy.add(generator.generate(Difficulty.EASY).getBoard().snapshot());
+                writer.add(Difficulty.EASY, easy.get(i));
+            }
+            for (int i = 0; i < 3; i++) {
+                hard.add(generator.generate(Difficulty.HARD).getBoard().snapshot());
+                writer.add(Difficulty.HARD, hard.get(i));
+            }
+        }
+
+        Assertions.assertEquals(64 + 8 * 41, Files.size(path));
+        try (PuzzleBank bank = new PuzzleBank(path)) {
+            Assertions.assertEquals(5, bank.size(Difficulty.EASY));
+            Assertions.assertEquals(0, bank.size(Difficulty.MEDIUM));
+            Assertions.assertEquals(3, bank.size(Difficulty.HARD));
+            byte[] cells = new byte[81];
+            for (int i = 0; i < hard.size(); i++) {
+                bank.read(Difficulty.HARD, i, cells);
+                Assertions.assertArrayEquals(hard.get(i), cells);
+            }
+            bank.read(Difficulty.EASY, 4, cells);
+            Assertions.assertArrayEquals(easy.get(4), cells);
+
+            SudokuBoard board = bank.board(Difficulty.EASY, 0, new BitmaskSudokuSolver());
+            Assertions.assertArrayEquals(easy.get(0), board.snapshot());
+            Assertions.assertTrue(board.hasUniqueSolution());
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> bank.read(Difficulty.HARD, 3, cells));
+            Assertions.assertThrows(IllegalStateException.class, () -> bank.readRandom(Difficulty.MEDIUM, cells));
+        }
+    }
+
+    @Test
+    public void difficultiesMustBeAddedInOrder() throws IOException {
+        try (PuzzleBankWriter writer = new PuzzleBankWriter(directory.resolve("order.sdkb"))) {
+            writer.add(Difficulty.MEDIUM, new byte[81]);
+            Assertions.assertThrows(IllegalStateException.class, () -> writer.add(Difficulty.EASY, new byte[81]));
+        }
+    }
+
+    @Test
+    public void valuesOutsideTheGridAreRejected() throws IOException {
+        try (PuzzleBankWriter writer = new PuzzleBankWriter(directory.resolve("values.sdkb"))) {
+            byte[] cells = new byte[81];
+            cells[40] = 10;
+            Assertions.assertThrows(IllegalArgumentException.class, () -> writer.add(Difficulty.EASY, cells));
+            cells[40] = -1;
+            Assertions.assertThrows(IllegalArgumentException.class, () -> writer.add(Difficulty.EASY, cells));
+        }
+    }
+
+    @Test
+    public void otherFilesAreRejected() throws IOException {
+        Path path = directory.resolve("other.bin");
+        Files.write(path, new byte[100]);
+
+        Assertions.assertThrows(IOException.class, () -> new PuzzleBank(path));
+    }
+
+    @Test
+    public void largeBankIsServedFromAllSegments() throws IOException {
+        Path path = directory.resolve("large.sdkb");
+        byte[] cells = new byte[81];
+        int count = 100_000;
+        Map<Integer, byte[]> written = new HashMap<>();
+        try (PuzzleBankWriter writer = new PuzzleBankWriter(path)) {
+            for (int i = 0; i < count; i++) {
+                cells[i % 81] = (byte) (i % 9 + 1);
+                cells[80 - i % 81] = (byte) (i % 7 + 1);
+                writer.add(Difficulty.MEDIUM, cells);
+                if (i % 998 == 0) {
+                    written.put(i, cells.clone());
+                }
+            }
+        }
+
+        try (PuzzleBank bank = new PuzzleBank(path, 999)) {
+            byte[] read = new byte[81];
+            for (Map.Entry<Integer, byte[]> entry : written.entrySet()) {
+                bank.read(Difficulty.MEDIUM, entry.getKey(), read);
+                Assertions.assertArrayEquals(entry.getValue(), read, "puzzle " + entry.getKey());
+            }
+            bank.read(Difficulty.MEDIUM, count - 1, read);
+            Assertions.assertArrayEquals(cells, read);
+            bank.read(Difficulty.MEDIUM, 999, read);
+            Assertions.assertEquals(999 % 9 + 1, read[999 % 81]);
+        }
+    }
+}
@@ -1,10 +1,20 @@
 import org.example.BacktrackingSudokuSolver;
+import org.example.Difficulty;
 import org.example.SudokuBoard;
 import org.example.SudokuField;
 import org.example.SudokuSolver;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.beans.IndexedPropertyChangeEvent;
+import java.beans.PropertyChangeEvent;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class SudokuBoardTests {
     @Test
     public void whenSetValue_thenBoardIsUpdated() {
@@ -176,4 +186,294 @@ public class SudokuBoardTests {
 
         Assertions.assertNotEquals(sudokuBoard1, sudokuBoard2);
     }
+
+    @Test
+    public void testIsValidMoveDoesNotChangeBoard() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.set(0, 0, 5);
+
+        Assertions.assertFalse(board.isValidMove(0, 8, 5));
+        Assertions.assertFalse(board.isValidMove(8, 0, 5));
+        Assertions.assertFalse(board.isValidMove(2, 2, 5));
+        Assertions.assertTrue(board.isValidMove(3, 3, 5));
+        Assertions.assertTrue(board.isValidMove(0, 0, 6));
+        Assertions.assertEquals(5, board.get(0, 0));
+        Assertions.assertEquals(0, board.get(3, 3));
+    }
+
+    @Test
+    public void testCheckBoardTracksWritesThroughGroups() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.getRow(4).setFieldValue(0, 7);
+        board.getColumn(8).setFieldValue(4, 7);
+
+        Assertions.assertFalse(board.checkBoard());
+        Assertions.assertFalse(board.isValidMove(0, 0, 1));
+
+        board.getField(4, 8).setValue(0);
+
+        Assertions.assertTrue(board.checkBoard());
+        Assertions.assertTrue(board.isValidMove(0, 0, 1));
+    }
+
+    @Test
+    public void testIsValidMoveReplacingConflictingValue() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.set(0, 0, 3);
+        board.set(0, 1, 3);
+
+        Assertions.assertFalse(board.checkBoard());
+        Assertions.assertTrue(board.isValidMove(0, 1, 4));
+        Assertions.assertFalse(board.isValidMove(0, 2, 4));
+    }
+
+    @Test
+    public void testFieldViewIsBackedByBoard() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        SudokuField field = board.getField(2, 3);
+
+        board.set(2, 3, 4);
+        Assertions.assertEquals(4, field.getValue());
+        Assertions.assertSame(field, board.getField(2, 3));
+
+        field.setValue(6);
+        Assertions.assertEquals(6, board.get(2, 3));
+        Assertions.assertEquals(6, board.getBox(2, 3).getFieldValue(6));
+        Assertions.assertEquals(6, board.getColumn(3).getFieldValue(2));
+    }
+
+    @Test
+    public void testCloneKeepsValidationState() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.set(0, 0, 3);
+        SudokuBoard clonedBoard = board.clone();
+
+        Assertions.assertFalse(clonedBoard.isValidMove(0, 5, 3));
+        clonedBoard.set(0, 5, 3);
+        Assertions.assertFalse(clonedBoard.checkBoard());
+        Assertions.assertTrue(board.checkBoard());
+    }
+
+    @Test
+    public void testSolveGameCoalescesNotifications() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        AtomicInteger boardEvents = new AtomicInteger();
+        AtomicInteger fieldEvents = new AtomicInteger();
+        List<PropertyChangeEvent> events = new ArrayList<>();
+        board.addPropertyChangeListener(event -> boardEvents.incrementAndGet());
+        board.addPropertyChangeListener(events::add);
+        board.getField(4, 4).addPropertyChangeListener(event -> fieldEvents.incrementAndGet());
+
+        board.solveGame();
+
+        Assertions.assertEquals(1, boardEvents.get());
+        Assertions.assertEquals(1, fieldEvents.get());
+        Assertions.assertNotEquals(0, board.getField(4, 4).getValue());
+        Assertions.assertEquals("cells", events.get(0).getPropertyName());
+        Assertions.assertArrayEquals(new byte[81], (byte[]) events.get(0).getOldValue());
+        Assertions.assertArrayEquals(board.snapshot(), (byte[]) events.get(0).getNewValue());
+    }
+
+    @Test
+    public void testSingleMoveReportsChangedCell() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.set(2, 3, 4);
+        List<PropertyChangeEvent> events = new ArrayList<>();
+        board.addPropertyChangeListener(events::add);
+
+        board.set(2, 3, 7);
+
+        Assertions.assertEquals(1, events.size());
+        IndexedPropertyChangeEvent event = (IndexedPropertyChangeEvent) events.get(0);
+        Assertions.assertEquals("cell", event.getPropertyName());
+        Assertions.assertEquals(2 * 9 + 3, event.getIndex());
+        Assertions.assertEquals(4, event.getOldValue());
+        Assertions.assertEquals(7, event.getNewValue());
+    }
+
+    @Test
+    public void testEndUpdateWithoutBeginUpdate() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+
+        Assertions.assertThrows(IllegalStateException.class, board::endUpdate);
+    }
+
+    @Test
+    public void testSnapshotAndRestore() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.set(1, 1, 8);
+        byte[] snapshot = board.snapshot();
+
+        board.set(1, 1, 0);
+        board.set(1, 2, 8);
+        board.set(1, 3, 8);
+        Assertions.assertFalse(board.checkBoard());
+
+        board.restore(snapshot);
+        Assertions.assertEquals(8, board.get(1, 1));
+        Assertions.assertEquals(0, board.get(1, 2));
+        Assertions.assertTrue(board.checkBoard());
+        Assertions.assertFalse(board.isValidMove(1, 5, 8));
+    }
+
+    @Test
+    public void testRestoreRejectsWrongSnapshot() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> board.restore(new byte[10]));
+    }
+
+    @Test
+    public void testSolvableLeavesBoardUntouched() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        AtomicInteger boardEvents = new AtomicInteger();
+        board.set(0, 0, 1);
+        board.addPropertyChangeListener(event -> boardEvents.incrementAndGet());
+
+        Assertions.assertTrue(board.solveable());
+        Assertions.assertEquals(1, board.get(0, 0));
+        Assertions.assertEquals(0, board.get(8, 8));
+        Assertions.assertEquals(0, boardEvents.get());
+    }
+
+    @Test
+    public void testCountSolutionsNeverWritesToBoard() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.set(0, 0, 1);
+        AtomicInteger fieldEvents = new AtomicInteger();
+        board.getField(8, 8).addPropertyChangeListener(event -> fieldEvents.incrementAndGet());
+
+        Assertions.assertEquals(2, board.getSudokuSolver().countSolutions(board, 2));
+        Assertions.assertEquals(0, board.get(8, 8));
+        Assertions.assertEquals(0, fieldEvents.get());
+    }
+
+    @Test
+    public void testRemoveFieldsKeepsSolution() {
+        SudokuBoard board;
+        byte[] solved;
+        do {
+            board = new SudokuBoard(new BacktrackingSudokuSolver());
+            board.solveGame();
+            solved = board.snapshot();
+            board.removeFields(Difficulty.EASY);
+            Assertions.assertEquals(board.hasUniqueSolution(), board.hasSolution());
+        } while (!board.hasSolution());
+
+        Assertions.assertArrayEquals(solved, board.getSolution());
+        int row = 0;
+        int col = 0;
+        while (board.get(row, col) != 0) {
+            if (++col == 9) {
+                col = 0;
+                row++;
+            }
+        }
+        int answer = solved[row * 9 + col];
+        Assertions.assertTrue(board.isCorrectMove(row, col, answer));
+        Assertions.assertFalse(board.isCorrectMove(row, col, answer % 9 + 1));
+        board.set(row, col, answer % 9 + 1);
+        board.set(row, col, answer);
+        Assertions.assertTrue(board.solveable());
+        Assertions.assertTrue(board.clone().hasSolution());
+    }
+
+    @Test
+    public void testIsCorrectMoveWithoutSolutionUsesSolver() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.set(0, 0, 1);
+        board.set(1, 3, 2);
+        board.set(2, 6, 3);
+
+        Assertions.assertFalse(board.hasSolution());
+        Assertions.assertFalse(board.isCorrectMove(0, 1, 1));
+        Assertions.assertTrue(board.isCorrectMove(0, 1, 2));
+        Assertions.assertEquals(0, board.get(0, 1));
+    }
+
+    @Test
+    public void testRemoveFieldsDropsAmbiguousSolution() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.solveGame();
+        board.removeFields(Difficulty.HARD);
+
+        Assertions.assertEquals(board.hasUniqueSolution(), board.hasSolution());
+        if (!board.hasSolution()) {
+            Assertions.assertTrue(board.solveable());
+        }
+    }
+
+    @Test
+    public void testSetSolutionRejectsSolutionDisagreeingWithCells() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        board.solveGame();
+        byte[] solved = board.snapshot();
+        board.set(0, 0, 0);
+        byte[] other = solved.clone();
+        // swapping two digits everywhere keeps the grid valid but contradicts the filled cells
+        for (int i = 0; i < other.length; i++) {
+            if (other[i] == 1) {
+                other[i] = 2;
+            } else if (other[i] == 2) {
+                other[i] = 1;
+            }
+        }
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> board.setSolution(other));
+        Assertions.assertFalse(board.hasSolution());
+        board.setSolution(solved);
+        Assertions.assertTrue(board.hasSolution());
+    }
+
+    @Test
+    public void testSetSolutionRejectsIncompleteBoard() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> board.setSolution(new byte[81]));
+    }
+
+    @Test
+    public void testHashCodeIsIndependentOfWriteOrder() {
+        SudokuBoard first = new SudokuBoard(new BacktrackingSudokuSolver());
+        SudokuBoard second = new SudokuBoard(new BacktrackingSudokuSolver());
+        first.set(0, 0, 1);
+        first.set(8, 8, 9);
+        second.set(8, 8, 4);
+        second.set(8, 8, 9);
+        second.set(0, 0, 1);
+
+        Assertions.assertEquals(first, second);
+        Assertions.assertEquals(first.hashCode(), second.hashCode());
+        second.set(0, 0, 0);
+        Assertions.assertNotEquals(first, second);
+    }
+
+    @Test
+    public void testHashSetDeduplicatesBoards() {
+        Random random = new Random(17);
+        Set<SudokuBoard> boards = new HashSet<>();
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        for (int i = 0; i < 50_000; i++) {
+            board.set(random.nextInt(9), random.nextInt(9), random.nextInt(10));
+            boards.add(board.clone());
+            boards.add(board.clone());
+        }
+
+        Set<String> distinct = new HashSet<>();
+        for (SudokuBoard unique : boards) {
+            distinct.add(unique.toString());
+        }
+        Assertions.assertEquals(distinct.size(), boards.size());
+    }
+
+    @Test
+    public void testOutOfRangeCellIsRejected() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> board.set(0, 9, 5));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> board.set(-1, 0, 5));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> board.get(9, 0));
+        Assertions.assertThrows(ArrayIndexOutOfBoundsException.class, () -> board.getField(0, -1));
+        Assertions.assertEquals(0, board.get(1, 0));
+    }
 }
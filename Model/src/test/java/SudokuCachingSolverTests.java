@@ -0,0 +1,102 @@
+import org.example.BacktrackingSudokuSolver;
+import org.example.BitmaskSudokuSolver;
+import org.example.CachingSudokuSolver;
+import org.example.ConstraintPropagationSudokuSolver;
+import org.example.SudokuBoard;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class SudokuCachingSolverTests extends SudokuTestSetup {
+    @Test
+    public void zobristHashFollowsEverySet() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        long empty = board.getZobristHash();
+        board.set(0, 0, 5);
+        long afterSet = board.getZobristHash();
+        board.set(0, 0, 0);
+
+        Assertions.assertNotEquals(empty, afterSet);
+        Assertions.assertEquals(empty, board.getZobristHash());
+
+        SudokuBoard other = new SudokuBoard(new BacktrackingSudokuSolver());
+        setBoard(seventeenClueBoard, board);
+        other.restore(board.snapshot());
+        Assertions.assertEquals(board.getZobristHash(), other.getZobristHash());
+        Assertions.assertEquals(board.getZobristHash(), board.clone().getZobristHash());
+    }
+
+    @Test
+    public void repeatedPositionsAreServedFromCache() {
+        CachingSudokuSolver solver = new CachingSudokuSolver(new ConstraintPropagationSudokuSolver(), 16);
+        SudokuBoard board = new SudokuBoard(solver);
+        setBoard(seventeenClueBoard, board);
+
+        Assertions.assertTrue(board.solveable());
+        board.set(0, 0, 7);
+        boolean toggled = board.solveable();
+        board.set(0, 0, 0);
+        Assertions.assertTrue(board.solveable());
+        board.set(0, 0, 7);
+        Assertions.assertEquals(toggled, board.solveable());
+
+        Assertions.assertEquals(2, solver.getMisses());
+        Assertions.assertEquals(2, solver.getHits());
+        Assertions.assertEquals(2, solver.getSize());
+    }
+
+    @Test
+    public void cacheIsBounded() {
+        CachingSudokuSolver solver = new CachingSudokuSolver(new ConstraintPropagationSudokuSolver(), 3);
+        SudokuBoard board = new SudokuBoard(solver);
+        for (int value = 1; value <= 9; value++) {
+            board.set(4, 4, value);
+            Assertions.assertTrue(board.solveable());
+        }
+        board.set(4, 4, 1);
+        board.solveable();
+
+        Assertions.assertEquals(3, solver.getSize());
+        Assertions.assertEquals(10, solver.getMisses());
+        solver.clearCache();
+        Assertions.assertEquals(0, solver.getSize());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new CachingSudokuSolver(new BacktrackingSudokuSolver(), 0));
+    }
+
+    @Test
+    public void cancelledChecksAreNotCached() {
+        CachingSudokuSolver solver = new CachingSudokuSolver(new BitmaskSudokuSolver(), 8);
+        SudokuBoard board = new SudokuBoard(solver);
+        setBoard(seventeenClueBoard, board);
+
+        Assertions.assertFalse(solver.solvable(board, new AtomicBoolean(true)));
+        Assertions.assertEquals(0, solver.getSize());
+        Assertions.assertTrue(solver.solvable(board, new AtomicBoolean()));
+        Assertions.assertEquals(1, solver.getSize());
+        Assertions.assertTrue(solver.solvable(board, new AtomicBoolean(true)));
+        Assertions.assertEquals(1, solver.getHits());
+    }
+
+    @Test
+    public void enginesWithoutCancellationRunToCompletion() {
+        CachingSudokuSolver solver = new CachingSudokuSolver(new ConstraintPropagationSudokuSolver(), 8);
+        SudokuBoard board = new SudokuBoard(solver);
+        setBoard(seventeenClueBoard, board);
+
+        Assertions.assertTrue(solver.solvable(board, new AtomicBoolean(true)));
+        Assertions.assertTrue(new BacktrackingSudokuSolver().solvable(board, new AtomicBoolean(true)));
+    }
+
+    @Test
+    public void cloneKeepsConfigurationButNotEntries() {
+        CachingSudokuSolver solver = new CachingSudokuSolver(new ConstraintPropagationSudokuSolver(), 8);
+        solver.solvable(new SudokuBoard(solver));
+        CachingSudokuSolver copy = solver.clone();
+
+        Assertions.assertEquals(solver, copy);
+        Assertions.assertEquals(solver.hashCode(), copy.hashCode());
+        Assertions.assertEquals(0, copy.getSize());
+    }
+}
@@ -0,0 +1,113 @@
+import org.example.BacktrackingSudokuSolver;
+import org.example.ConstraintPropagationSudokuSolver;
+import org.example.Difficulty;
+import org.example.SudokuBoard;
+import org.example.SudokuCanonicalizer;
+import org.example.SudokuGenerator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+public class SudokuCanonicalizerTests extends SudokuTestSetup {
+    private final SudokuCanonicalizer canonicalizer = new SudokuCanonicalizer();
+
+    private static SudokuBoard transform(SudokuBoard board, Random random) {
+        int[] digits = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+        int[] rows = shuffledLayout(random);
+        int[] cols = shuffledLayout(random);
+        for (int i = 9; i > 1; i--) {
+            int j = 1 + random.nextInt(i);
+            int swap = digits[i];
+            digits[i] = digits[j];
+            digits[j] = swap;
+        }
+        boolean transpose = random.nextBoolean();
+        SudokuBoard result = new SudokuBoard(new BacktrackingSudokuSolver());
+        for (int r = 0; r < 9; r++) {
+            for (int c = 0; c < 9; c++) {
+                int value = digits[board.get(rows[r], cols[c])];
+                if (transpose) {
+                    result.set(c, r, value);
+                } else {
+                    result.set(r, c, value);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static int[] shuffledLayout(Random random) {
+        int[] bands = {0, 1, 2};
+        shuffle(bands, random);
+        int[] layout = new int[9];
+        for (int band = 0; band < 3; band++) {
+            int[] inner = {0, 1, 2};
+            shuffle(inner, random);
+            for (int i = 0; i < 3; i++) {
+                layout[band * 3 + i] = bands[band] * 3 + inner[i];
+            }
+        }
+        return layout;
+    }
+
+    private static void shuffle(int[] values, Random random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+
+    @Test
+    public void equivalentPuzzlesShareCanonicalKey() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        setBoard(seventeenClueBoard, board);
+        String key = canonicalizer.canonicalKey(board);
+        Random random = new Random(5);
+
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(key, canonicalizer.canonicalKey(transform(board, random)));
+        }
+    }
+
+    @Test
+    public void differentPuzzlesHaveDifferentKeys() {
+        SudokuBoard first = new SudokuBoard(new BacktrackingSudokuSolver());
+        SudokuBoard second = new SudokuBoard(new BacktrackingSudokuSolver());
+        setBoard(seventeenClueBoard, first);
+        setBoard(singlesBoard, second);
+
+        Assertions.assertNotEquals(canonicalizer.canonicalKey(first), canonicalizer.canonicalKey(second));
+    }
+
+    @Test
+    public void canonicalFormIsMinimalAndIdempotent() {
+        SudokuBoard board = new SudokuBoard(new BacktrackingSudokuSolver());
+        setBoard(singlesBoard, board);
+        SudokuBoard canonical = canonicalizer.canonicalize(board);
+        String key = canonicalizer.canonicalKey(board);
+
+        Assertions.assertEquals(key, canonicalizer.canonicalKey(canonical));
+        Assertions.assertTrue(key.compareTo(canonicalizer.canonicalKey(transform(board, new Random(9)))) <= 0);
+        Assertions.assertTrue(canonical.hasUniqueSolution());
+        Assertions.assertEquals("0".repeat(81), canonicalizer.canonicalKey(new SudokuBoard(new BacktrackingSudokuSolver())));
+    }
+
+    @Test
+    public void generatedPuzzlesKeepTheirKeyUnderTransformation() {
+        SudokuGenerator generator = new SudokuGenerator(new ConstraintPropagationSudokuSolver(), new Random(8));
+        Random random = new Random(10);
+        Set<String> keys = new HashSet<>();
+        for (int i = 0; i < 20; i++) {
+            SudokuBoard board = generator.generate(Difficulty.HARD).getBoard();
+            String key = canonicalizer.canonicalKey(board);
+
+            Assertions.assertEquals(key, canonicalizer.canonicalKey(transform(board, random)));
+            Assertions.assertTrue(keys.add(key));
+        }
+    }
+}
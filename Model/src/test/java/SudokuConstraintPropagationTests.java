@@ -0,0 +1,109 @@
+import org.example.ConstraintPropagationSudokuSolver;
+import org.example.SudokuBoard;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SudokuConstraintPropagationTests extends SudokuTestSetup {
+    @Test
+    public void solutionIsCorrect() {
+        SudokuBoard board = new SudokuBoard(new ConstraintPropagationSudokuSolver());
+        setBoard(defaultBoard, board);
+
+        board.solveGame();
+
+        Assertions.assertTrue(board.checkBoard());
+        for (int r = 0; r < 9; r++) {
+            for (int c = 0; c < 9; c++) {
+                Assertions.assertNotEquals(0, board.get(r, c));
+                if (defaultBoard[r][c] != 0) {
+                    Assertions.assertEquals(defaultBoard[r][c], board.get(r, c));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void singlesBoardIsSolvedWithoutGuessing() {
+        ConstraintPropagationSudokuSolver solver = new ConstraintPropagationSudokuSolver();
+        SudokuBoard board = new SudokuBoard(solver);
+        setBoard(singlesBoard, board);
+
+        Assertions.assertEquals(0, solver.countGuesses(board));
+        board.solveGame();
+
+        Assertions.assertTrue(board.checkBoard());
+    }
+
+    @Test
+    public void seventeenClueBoardIsSolved() {
+        SudokuBoard board = new SudokuBoard(new ConstraintPropagationSudokuSolver());
+        setBoard(seventeenClueBoard, board);
+
+        board.solveGame();
+
+        Assertions.assertTrue(board.checkBoard());
+        for (int r = 0; r < 9; r++) {
+            for (int c = 0; c < 9; c++) {
+                Assertions.assertNotEquals(0, board.get(r, c));
+            }
+        }
+    }
+
+    @Test
+    public void emptyBoardIsFilled() {
+        SudokuBoard board = new SudokuBoard(new ConstraintPropagationSudokuSolver());
+
+        board.solveGame();
+
+        Assertions.assertTrue(board.checkBoard());
+        for (int r = 0; r < 9; r++) {
+            for (int c = 0; c < 9; c++) {
+                Assertions.assertNotEquals(0, board.get(r, c));
+            }
+        }
+    }
+
+    @Test
+    public void solvableDoesNotModifyBoard() {
+        SudokuBoard board = new SudokuBoard(new ConstraintPropagationSudokuSolver());
+        setBoard(defaultBoard, board);
+
+        Assertions.assertTrue(board.solveable());
+        Assertions.assertArrayEquals(defaultBoard, getBoard(board));
+    }
+
+    @Test
+    public void conflictingBoardIsNotSolvable() {
+        SudokuBoard board = new SudokuBoard(new ConstraintPropagationSudokuSolver());
+        board.set(0, 0, 5);
+        board.set(0, 8, 5);
+
+        Assertions.assertFalse(board.solveable());
+    }
+
+    @Test
+    public void deadEndBoardIsNotSolvable() {
+        SudokuBoard board = new SudokuBoard(new ConstraintPropagationSudokuSolver());
+        for (int c = 0; c < 8; c++) {
+            board.set(0, c, c + 1);
+        }
+        board.set(1, 8, 9);
+
+        Assertions.assertFalse(board.solveable());
+        Assertions.assertEquals(-1, new ConstraintPropagationSudokuSolver().countGuesses(board));
+    }
+
+    @Test
+    public void testClone() {
+        ConstraintPropagationSudokuSolver originalSudokuSolver = new ConstraintPropagationSudokuSolver();
+        ConstraintPropagationSudokuSolver clonedSudokuSolver = originalSudokuSolver.clone();
+
+        Assertions.assertEquals(originalSudokuSolver, clonedSudokuSolver);
+        Assertions.assertNotSame(originalSudokuSolver, clonedSudokuSolver);
+    }
+
+    @Test
+    public void testHashCode() {
+        Assertions.assertEquals(new ConstraintPropagationSudokuSolver().hashCode(), new ConstraintPropagationSudokuSolver().hashCode());
+    }
+}
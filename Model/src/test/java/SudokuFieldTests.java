@@ -2,6 +2,9 @@ import org.example.SudokuField;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.beans.PropertyChangeListener;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public class SudokuFieldTests {
     @Test
     public void testClone() throws CloneNotSupportedException {
@@ -27,4 +30,18 @@ public class SudokuFieldTests {
 
         Assertions.assertEquals(sudokuField1.hashCode(), sudokuField2.hashCode());
     }
+
+    @Test
+    public void testListenerIsNotified() {
+        SudokuField sudokuField = new SudokuField(0);
+        AtomicInteger events = new AtomicInteger();
+        PropertyChangeListener listener = event -> events.incrementAndGet();
+        sudokuField.addPropertyChangeListener(listener);
+
+        sudokuField.setValue(3);
+        sudokuField.removePropertyChangeListener(listener);
+        sudokuField.setValue(4);
+
+        Assertions.assertEquals(1, events.get());
+    }
 }
@@ -0,0 +1,92 @@
+import org.example.ConstraintPropagationSudokuSolver;
+import org.example.Difficulty;
+import org.example.GeneratedPuzzle;
+import org.example.SudokuBoard;
+import org.example.SudokuGenerator;
+import org.example.Symmetry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class SudokuGeneratorTests {
+    private final SudokuGenerator generator = new SudokuGenerator(new ConstraintPropagationSudokuSolver(),
+            new Random(42));
+
+    @Test
+    public void generatedPuzzleHasUniqueSolution() {
+        GeneratedPuzzle puzzle = generator.generate(Difficulty.EASY);
+        SudokuBoard board = puzzle.getBoard();
+
+        Assertions.assertEquals(45, puzzle.getClues());
+        Assertions.assertEquals(45, countClues(board));
+        Assertions.assertTrue(board.hasUniqueSolution());
+        Assertions.assertTrue(puzzle.getSolverCalls() > 1);
+    }
+
+    @Test
+    public void generatedPuzzleMatchesSolution() {
+        GeneratedPuzzle puzzle = generator.generate(Difficulty.MEDIUM);
+        SudokuBoard board = puzzle.getBoard();
+        byte[] solution = puzzle.getSolution();
+
+        for (int cell = 0; cell < 81; cell++) {
+            int value = board.get(cell / 9, cell % 9);
+            Assertions.assertTrue(value == 0 || value == solution[cell]);
+        }
+        board.solveGame();
+        Assertions.assertArrayEquals(solution, board.snapshot());
+    }
+
+    @Test
+    public void hardPuzzleStopsAtMinimalClueCount() {
+        GeneratedPuzzle puzzle = generator.generate(Difficulty.HARD);
+
+        Assertions.assertTrue(puzzle.getClues() >= 17);
+        Assertions.assertEquals(puzzle.getClues(), countClues(puzzle.getBoard()));
+        Assertions.assertTrue(puzzle.getBoard().hasUniqueSolution());
+    }
+
+    @Test
+    public void symmetricPuzzleKeepsPattern() {
+        GeneratedPuzzle puzzle = generator.generate(30, Symmetry.ROTATIONAL);
+        SudokuBoard board = puzzle.getBoard();
+
+        for (int r = 0; r < 9; r++) {
+            for (int c = 0; c < 9; c++) {
+                Assertions.assertEquals(board.get(r, c) == 0, board.get(8 - r, 8 - c) == 0);
+            }
+        }
+        Assertions.assertTrue(board.hasUniqueSolution());
+    }
+
+    @Test
+    public void seededGeneratorsProduceTheSamePuzzles() {
+        SudokuGenerator first = new SudokuGenerator(new ConstraintPropagationSudokuSolver(), new Random(5));
+        SudokuGenerator second = new SudokuGenerator(new ConstraintPropagationSudokuSolver(), new Random(5));
+
+        for (int i = 0; i < 3; i++) {
+            GeneratedPuzzle expected = first.generate(Difficulty.MEDIUM);
+            GeneratedPuzzle actual = second.generate(Difficulty.MEDIUM);
+            Assertions.assertArrayEquals(expected.getSolution(), actual.getSolution());
+            Assertions.assertEquals(expected.getBoard(), actual.getBoard());
+        }
+    }
+
+    @Test
+    public void invalidTargetIsRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.generate(82, Symmetry.NONE));
+    }
+
+    private int countClues(SudokuBoard board) {
+        int clues = 0;
+        for (int r = 0; r < 9; r++) {
+            for (int c = 0; c < 9; c++) {
+                if (board.get(r, c) != 0) {
+                    clues++;
+                }
+            }
+        }
+        return clues;
+    }
+}
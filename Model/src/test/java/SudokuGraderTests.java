@@ -0,0 +1,140 @@
+import org.example.ConstraintPropagationSudokuSolver;
+import org.example.Difficulty;
+import org.example.GeneratedPuzzle;
+import org.example.SudokuBoard;
+import org.example.SudokuGenerator;
+import org.example.SudokuGrade;
+import org.example.SudokuGrader;
+import org.example.Technique;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class SudokuGraderTests extends SudokuTestSetup {
+    private final SudokuGrader grader = new SudokuGrader();
+
+    // Singles, pointing and a hidden pair stall until an X-Wing clears the way.
+    private final int[][] xWingBoard = {
+            {1, 0, 0, 0, 0, 0, 5, 6, 9},
+            {4, 9, 2, 0, 5, 6, 1, 0, 8},
+            {0, 5, 6, 1, 0, 9, 2, 4, 0},
+            {0, 0, 9, 6, 4, 0, 8, 0, 1},
+            {0, 6, 4, 0, 1, 0, 0, 0, 0},
+            {2, 1, 8, 0, 3, 5, 6, 0, 4},
+            {0, 4, 0, 5, 0, 0, 0, 1, 6},
+            {9, 0, 5, 0, 6, 1, 4, 0, 2},
+            {6, 2, 1, 0, 0, 0, 0, 0, 5}
+    };
+
+    // Singles, pointing and a hidden pair stall until a Swordfish clears the way.
+    private final int[][] swordfishBoard = {
+            {5, 2, 9, 4, 1, 0, 7, 0, 3},
+            {0, 0, 6, 0, 0, 3, 0, 0, 2},
+            {0, 0, 3, 2, 0, 0, 0, 0, 0},
+            {0, 5, 2, 3, 0, 0, 0, 7, 6},
+            {6, 3, 7, 0, 5, 0, 2, 0, 0},
+            {1, 9, 0, 6, 2, 7, 5, 3, 0},
+            {3, 0, 0, 0, 6, 9, 4, 2, 0},
+            {2, 0, 0, 8, 3, 0, 6, 0, 0},
+            {9, 6, 0, 7, 4, 2, 3, 0, 5}
+    };
+
+    // Needs XY-Wings but no fish.
+    private final int[][] xyWingBoard = {
+            {9, 0, 0, 2, 4, 0, 0, 0, 0},
+            {0, 5, 0, 6, 9, 0, 2, 3, 1},
+            {0, 2, 0, 0, 5, 0, 0, 9, 0},
+            {0, 9, 0, 7, 0, 0, 3, 2, 0},
+            {0, 0, 2, 9, 3, 5, 6, 0, 7},
+            {0, 7, 0, 0, 0, 2, 9, 0, 0},
+            {0, 6, 9, 0, 2, 0, 0, 7, 3},
+            {5, 1, 0, 0, 7, 9, 0, 6, 2},
+            {2, 0, 7, 0, 8, 6, 0, 0, 9}
+    };
+
+    @Test
+    public void singlesBoardIsEasy() {
+        SudokuBoard board = new SudokuBoard(new ConstraintPropagationSudokuSolver());
+        setBoard(singlesBoard, board);
+
+        SudokuGrade grade = grader.grade(board);
+
+        Assertions.assertTrue(grade.isSolvedLogically());
+        Assertions.assertEquals(Difficulty.EASY, grade.getDifficulty());
+        Assertions.assertTrue(grade.getUsage(Technique.NAKED_SINGLE) + grade.getUsage(Technique.HIDDEN_SINGLE) > 0);
+    }
+
+    @Test
+    public void emptyBoardNeedsGuessing() {
+        SudokuGrade grade = grader.grade(new SudokuBoard(new ConstraintPropagationSudokuSolver()));
+
+        Assertions.assertEquals(Technique.GUESS, grade.getHardestTechnique());
+        Assertions.assertEquals(Difficulty.HARD, grade.getDifficulty());
+        Assertions.assertFalse(grade.isSolvedLogically());
+    }
+
+    @Test
+    public void conflictingBoardIsNotSolvedLogically() {
+        SudokuBoard board = new SudokuBoard(new ConstraintPropagationSudokuSolver());
+        board.set(0, 0, 5);
+        board.set(0, 1, 5);
+
+        Assertions.assertFalse(grader.grade(board).isSolvedLogically());
+    }
+
+    @Test
+    public void xWingIsDetected() {
+        assertNeeds(Technique.X_WING, xWingBoard);
+    }
+
+    @Test
+    public void swordfishIsDetected() {
+        assertNeeds(Technique.SWORDFISH, swordfishBoard);
+    }
+
+    @Test
+    public void xyWingIsDetected() {
+        assertNeeds(Technique.XY_WING, xyWingBoard);
+    }
+
+    private void assertNeeds(Technique technique, int[][] cells) {
+        SudokuBoard board = new SudokuBoard(new ConstraintPropagationSudokuSolver());
+        setBoard(cells, board);
+
+        SudokuGrade grade = grader.grade(board);
+
+        Assertions.assertTrue(grade.isSolvedLogically(), grade.toString());
+        Assertions.assertEquals(technique, grade.getHardestTechnique(), grade.toString());
+        Assertions.assertTrue(grade.getUsage(technique) > 0);
+        Assertions.assertEquals(Difficulty.HARD, grade.getDifficulty());
+    }
+
+    @Test
+    public void graderSolvesEverythingPropagationSolvesWithoutGuessing() {
+        ConstraintPropagationSudokuSolver solver = new ConstraintPropagationSudokuSolver();
+        SudokuGenerator generator = new SudokuGenerator(solver, new Random(7));
+        List<SudokuBoard> boards = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            boards.add(generator.generate(Difficulty.HARD).getBoard());
+        }
+
+        for (SudokuBoard board : boards) {
+            SudokuGrade grade = grader.grade(board);
+            if (solver.countGuesses(board) == 0) {
+                Assertions.assertTrue(grade.isSolvedLogically(), grade.toString());
+            }
+        }
+    }
+
+    @Test
+    public void generatedPuzzleCanBeRoutedByGrade() {
+        SudokuGenerator generator = new SudokuGenerator(new ConstraintPropagationSudokuSolver(), new Random(3));
+        GeneratedPuzzle puzzle = generator.generateGraded(Difficulty.EASY, 20);
+
+        Assertions.assertEquals(Difficulty.EASY, grader.grade(puzzle.getBoard()).getDifficulty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.generateGraded(Difficulty.EASY, 0));
+    }
+}
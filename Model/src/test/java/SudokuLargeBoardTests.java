@@ -0,0 +1,130 @@
+import org.example.BacktrackingSudokuSolver;
+import org.example.BitmaskSudokuSolver;
+import org.example.ConstraintPropagationSudokuSolver;
+import org.example.Difficulty;
+import org.example.ParallelSudokuSolver;
+import org.example.SudokuBoard;
+import org.example.SudokuCanonicalizer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+public class SudokuLargeBoardTests {
+    private static void assertSolved(SudokuBoard board) {
+        int size = board.getSize();
+        Assertions.assertTrue(board.checkBoard());
+        for (int i = 0; i < size; i++) {
+            Assertions.assertTrue(board.getRow(i).verify());
+            Assertions.assertTrue(board.getColumn(i).verify());
+            for (int j = 0; j < size; j++) {
+                Assertions.assertNotEquals(0, board.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void sixteenBySixteenBoardIsSolved() {
+        SudokuBoard board = new SudokuBoard(new BitmaskSudokuSolver(), 4);
+
+        board.solveGame();
+
+        Assertions.assertEquals(16, board.getSize());
+        assertSolved(board);
+        Assertions.assertTrue(board.getBox(15, 15).verify());
+    }
+
+    @Test
+    public void twentyFiveByTwentyFiveBoardIsSolved() {
+        SudokuBoard board = new SudokuBoard(new BitmaskSudokuSolver(), 5);
+
+        board.solveGame();
+
+        Assertions.assertEquals(25, board.getSize());
+        assertSolved(board);
+    }
+
+    @Test
+    public void largePuzzleIsSolvedBackFromItsGivens() {
+        SudokuBoard board = new SudokuBoard(new ParallelSudokuSolver(2), 4);
+        board.solveGame();
+        byte[] solved = board.snapshot();
+        board.removeFields(Difficulty.EASY);
+
+        Assertions.assertFalse(board.hasSolution());
+        Assertions.assertTrue(board.solveable());
+        board.solveGame();
+        assertSolved(board);
+        Assertions.assertEquals(solved.length, board.snapshot().length);
+    }
+
+    @Test
+    public void fieldRemovalOnLargeBoardsDoesNotWaitForUniqueness() {
+        for (Difficulty difficulty : Difficulty.values()) {
+            SudokuBoard board = new SudokuBoard(new BitmaskSudokuSolver(), 5);
+            board.solveGame();
+
+            Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10), () -> board.removeFields(difficulty));
+            Assertions.assertFalse(board.hasSolution());
+        }
+    }
+
+    @Test
+    public void smallBoardSolutionsAreCounted() {
+        SudokuBoard bitmask = new SudokuBoard(new BitmaskSudokuSolver(), 2);
+        SudokuBoard backtracking = new SudokuBoard(new BacktrackingSudokuSolver(), 2);
+
+        Assertions.assertEquals(288, bitmask.getSudokuSolver().countSolutions(bitmask, 1000));
+        Assertions.assertEquals(288, backtracking.getSudokuSolver().countSolutions(backtracking, 1000));
+        backtracking.solveGame();
+        assertSolved(backtracking);
+    }
+
+    @Test
+    public void largePuzzleSolutionsAreCounted() {
+        BitmaskSudokuSolver solver = new BitmaskSudokuSolver();
+        Random random = new Random(25);
+        for (int boxSize = 4; boxSize <= 5; boxSize++) {
+            SudokuBoard board = new SudokuBoard(solver, boxSize);
+            board.solveGame();
+            int size = board.getSize();
+            board.set(size - 1, size - 1, 0);
+            Assertions.assertEquals(1, solver.countSolutions(board, 2));
+            for (int cell = 0; cell < size * size; cell++) {
+                if (random.nextInt(3) > 0) {
+                    board.set(cell / size, cell % size, 0);
+                }
+            }
+            int solutions = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(30),
+                    () -> solver.countSolutions(board, 2, 1_000_000));
+            // 16x16 puzzles finish well inside the budget; a sparse 25x25 one may exhaust it instead
+            Assertions.assertTrue(solutions >= 1 || boxSize == 5 && solutions == -1, String.valueOf(solutions));
+        }
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> solver.countSolutions(new SudokuBoard(solver), 2, 0));
+    }
+
+    @Test
+    public void valuesAreCheckedAgainstBoardSize() {
+        SudokuBoard board = new SudokuBoard(new BitmaskSudokuSolver(), 4);
+        board.set(0, 0, 16);
+        board.getField(0, 1).setValue(15);
+
+        Assertions.assertEquals(15, board.get(0, 1));
+        Assertions.assertFalse(board.isValidMove(0, 2, 16));
+        Assertions.assertTrue(board.isValidMove(0, 2, 14));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> board.set(0, 0, 17));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> board.getField(1, 1).setValue(17));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> board.getRow(16));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SudokuBoard(new BitmaskSudokuSolver(), 6));
+    }
+
+    @Test
+    public void standardOnlyEnginesRejectLargeBoards() {
+        SudokuBoard board = new SudokuBoard(new ConstraintPropagationSudokuSolver(), 4);
+
+        Assertions.assertThrows(IllegalArgumentException.class, board::solveable);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new SudokuCanonicalizer().canonicalKey(board));
+    }
+}
@@ -0,0 +1,152 @@
+import org.example.BitmaskSudokuSolver;
+import org.example.ParallelSudokuSolver;
+import org.example.SudokuBoard;
+import org.example.SudokuSolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SudokuParallelTests extends SudokuTestSetup {
+    @Test
+    public void solutionIsCorrect() {
+        SudokuBoard board = new SudokuBoard(new ParallelSudokuSolver(4));
+        setBoard(seventeenClueBoard, board);
+
+        board.solveGame();
+
+        Assertions.assertTrue(board.checkBoard());
+        for (int r = 0; r < 9; r++) {
+            for (int c = 0; c < 9; c++) {
+                Assertions.assertNotEquals(0, board.get(r, c));
+                if (seventeenClueBoard[r][c] != 0) {
+                    Assertions.assertEquals(seventeenClueBoard[r][c], board.get(r, c));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void emptyBoardIsFilled() {
+        SudokuBoard board = new SudokuBoard(new ParallelSudokuSolver(2));
+
+        board.solveGame();
+
+        Assertions.assertTrue(board.checkBoard());
+        for (int r = 0; r < 9; r++) {
+            for (int c = 0; c < 9; c++) {
+                Assertions.assertNotEquals(0, board.get(r, c));
+            }
+        }
+    }
+
+    @Test
+    public void conflictingBoardIsNotSolvable() {
+        SudokuBoard board = new SudokuBoard(new ParallelSudokuSolver(2));
+        board.set(0, 0, 5);
+        board.set(8, 0, 5);
+
+        Assertions.assertFalse(board.solveable());
+    }
+
+    @Test
+    public void deadEndBoardIsNotSolvable() {
+        SudokuBoard board = new SudokuBoard(new ParallelSudokuSolver(2));
+        for (int c = 0; c < 8; c++) {
+            board.set(0, c, c + 1);
+        }
+        board.set(1, 8, 9);
+
+        Assertions.assertFalse(board.solveable());
+    }
+
+    @Test
+    public void solutionCountsMatchSequentialSolver() {
+        SudokuSolver sequential = new BitmaskSudokuSolver();
+        SudokuSolver parallel = new ParallelSudokuSolver(4);
+        SudokuBoard board = new SudokuBoard(sequential);
+        setBoard(seventeenClueBoard, board);
+
+        Assertions.assertEquals(1, parallel.countSolutions(board, 2));
+        Assertions.assertEquals(sequential.countSolutions(board, 2), parallel.countSolutions(board, 2));
+        SudokuBoard empty = new SudokuBoard(sequential);
+        Assertions.assertEquals(50, parallel.countSolutions(empty, 50));
+    }
+
+    @Test
+    public void clonesSolveConcurrentlyOnSharedPool() throws Exception {
+        ParallelSudokuSolver solver = new ParallelSudokuSolver(2);
+        List<Thread> threads = new ArrayList<>();
+        List<SudokuBoard> boards = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            SudokuBoard board = new SudokuBoard(solver.clone());
+            setBoard(seventeenClueBoard, board);
+            boards.add(board);
+            threads.add(new Thread(board::solveGame));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (SudokuBoard board : boards) {
+            Assertions.assertTrue(board.checkBoard());
+            for (int r = 0; r < 9; r++) {
+                for (int c = 0; c < 9; c++) {
+                    Assertions.assertNotEquals(0, board.get(r, c));
+                }
+            }
+        }
+    }
+
+    // Opt-in: mvn test -Dsudoku.benchmark=true [-Dsudoku.benchmark.minSpeedup=1.5]
+    @Test
+    @EnabledIfSystemProperty(named = "sudoku.benchmark", matches = "true")
+    public void countsFasterThanSequentialSolver(TestReporter reporter) {
+        Assumptions.assumeTrue(Runtime.getRuntime().availableProcessors() > 1, "a speedup needs more than one core");
+        double minSpeedup = Double.parseDouble(System.getProperty("sudoku.benchmark.minSpeedup", "1.0"));
+        SudokuSolver sequential = new BitmaskSudokuSolver();
+        SudokuSolver parallel = new ParallelSudokuSolver();
+        int limit = 100_000;
+        int runs = 5;
+        timeCounts(sequential, limit, 2);
+        timeCounts(parallel, limit, 2);
+
+        long sequentialNanos = timeCounts(sequential, limit, runs);
+        long parallelNanos = timeCounts(parallel, limit, runs);
+
+        double speedup = (double) sequentialNanos / parallelNanos;
+        reporter.publishEntry("sequential ms", String.valueOf(sequentialNanos / 1_000_000));
+        reporter.publishEntry("parallel ms", String.valueOf(parallelNanos / 1_000_000));
+        reporter.publishEntry("speedup", String.format("%.2f", speedup));
+        Assertions.assertTrue(speedup >= minSpeedup, String.format("speedup %.2f is below %.2f", speedup, minSpeedup));
+    }
+
+    private long timeCounts(SudokuSolver solver, int limit, int runs) {
+        long start = System.nanoTime();
+        for (int i = 0; i < runs; i++) {
+            Assertions.assertEquals(limit, solver.countSolutions(new SudokuBoard(solver), limit));
+        }
+        return System.nanoTime() - start;
+    }
+
+    @Test
+    public void invalidParallelismIsRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ParallelSudokuSolver(0));
+    }
+
+    @Test
+    public void testClone() {
+        ParallelSudokuSolver originalSudokuSolver = new ParallelSudokuSolver(3);
+        ParallelSudokuSolver clonedSudokuSolver = originalSudokuSolver.clone();
+
+        Assertions.assertEquals(originalSudokuSolver, clonedSudokuSolver);
+        Assertions.assertNotSame(originalSudokuSolver, clonedSudokuSolver);
+        Assertions.assertNotEquals(new ParallelSudokuSolver(2), originalSudokuSolver);
+    }
+}
@@ -0,0 +1,51 @@
+import org.example.ConstraintPropagationSudokuSolver;
+import org.example.Difficulty;
+import org.example.GeneratedPuzzle;
+import org.example.SudokuPuzzlePool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class SudokuPuzzlePoolTests {
+    @Test
+    public void takeReturnsPuzzleOfRequestedDifficulty() {
+        try (SudokuPuzzlePool pool = new SudokuPuzzlePool(new ConstraintPropagationSudokuSolver(), 2)) {
+            GeneratedPuzzle puzzle = pool.take(Difficulty.MEDIUM);
+
+            Assertions.assertEquals(30, puzzle.getClues());
+            Assertions.assertTrue(puzzle.getBoard().hasUniqueSolution());
+        }
+    }
+
+    @Test
+    public void poolRefillsInBackground() throws InterruptedException {
+        try (SudokuPuzzlePool pool = new SudokuPuzzlePool(new ConstraintPropagationSudokuSolver(), 2)) {
+            pool.take(Difficulty.EASY);
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (pool.size(Difficulty.EASY) < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            Assertions.assertEquals(2, pool.size(Difficulty.EASY));
+        }
+    }
+
+    @Test
+    public void refillAlternatesDifficulties() throws InterruptedException {
+        try (SudokuPuzzlePool pool = new SudokuPuzzlePool(new ConstraintPropagationSudokuSolver(), 3)) {
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (pool.size(Difficulty.HARD) < 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            Assertions.assertTrue(pool.size(Difficulty.HARD) >= 1);
+            Assertions.assertTrue(pool.size(Difficulty.EASY) >= 1);
+            Assertions.assertTrue(pool.size(Difficulty.MEDIUM) >= 1);
+        }
+    }
+
+    @Test
+    public void invalidCapacityIsRejected() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new SudokuPuzzlePool(new ConstraintPropagationSudokuSolver(), 0));
+    }
+}
@@ -0,0 +1,82 @@
+import org.example.BacktrackingSudokuSolver;
+import org.example.BitmaskSudokuSolver;
+import org.example.ConstraintPropagationSudokuSolver;
+import org.example.DancingLinksSudokuSolver;
+import org.example.ParallelSudokuSolver;
+import org.example.SudokuBoard;
+import org.example.SudokuSolver;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class SudokuSolutionCountTests extends SudokuTestSetup {
+    private final List<SudokuSolver> fastSolvers = List.of(
+            new BitmaskSudokuSolver(),
+            new DancingLinksSudokuSolver(),
+            new ConstraintPropagationSudokuSolver(),
+            new ParallelSudokuSolver(2));
+
+    @Test
+    public void uniquePuzzleHasOneSolution() {
+        for (SudokuSolver solver : fastSolvers) {
+            SudokuBoard board = new SudokuBoard(solver);
+            setBoard(seventeenClueBoard, board);
+
+            Assertions.assertEquals(1, solver.countSolutions(board, 2), solver.toString());
+            Assertions.assertTrue(board.hasUniqueSolution());
+            Assertions.assertArrayEquals(seventeenClueBoard, getBoard(board));
+        }
+    }
+
+    @Test
+    public void removingClueFromMinimalPuzzleBreaksUniqueness() {
+        for (SudokuSolver solver : fastSolvers) {
+            SudokuBoard board = new SudokuBoard(solver);
+            setBoard(seventeenClueBoard, board);
+            board.set(0, 7, 0);
+
+            Assertions.assertEquals(2, solver.countSolutions(board, 2), solver.toString());
+            Assertions.assertFalse(board.hasUniqueSolution());
+        }
+    }
+
+    @Test
+    public void countStopsAtLimit() {
+        for (SudokuSolver solver : fastSolvers) {
+            SudokuBoard board = new SudokuBoard(solver);
+
+            Assertions.assertEquals(5, solver.countSolutions(board, 5), solver.toString());
+        }
+    }
+
+    @Test
+    public void conflictingBoardHasNoSolutions() {
+        for (SudokuSolver solver : fastSolvers) {
+            SudokuBoard board = new SudokuBoard(solver);
+            board.set(0, 0, 5);
+            board.set(0, 8, 5);
+
+            Assertions.assertEquals(0, solver.countSolutions(board, 2), solver.toString());
+        }
+    }
+
+    @Test
+    public void backtrackingSolverCountsSolutions() {
+        SudokuSolver solver = new BacktrackingSudokuSolver();
+        SudokuBoard board = new SudokuBoard(solver);
+        setBoard(singlesBoard, board);
+
+        Assertions.assertEquals(1, solver.countSolutions(board, 2));
+        Assertions.assertEquals(3, solver.countSolutions(new SudokuBoard(solver), 3));
+    }
+
+    @Test
+    public void nonPositiveLimitIsRejected() {
+        for (SudokuSolver solver : fastSolvers) {
+            SudokuBoard board = new SudokuBoard(solver);
+
+            Assertions.assertThrows(IllegalArgumentException.class, () -> solver.countSolutions(board, 0));
+        }
+    }
+}
@@ -32,6 +32,30 @@ public class SudokuTestSetup {
             {0, 0, 0, 2, 4, 0, 0, 0, 0}
     };
 
+    final int[][] seventeenClueBoard = {
+            {0, 0, 0, 0, 0, 0, 0, 1, 0},
+            {4, 0, 0, 0, 0, 0, 0, 0, 0},
+            {0, 2, 0, 0, 0, 0, 0, 0, 0},
+            {0, 0, 0, 0, 5, 0, 4, 0, 7},
+            {0, 0, 8, 0, 0, 0, 3, 0, 0},
+            {0, 0, 1, 0, 9, 0, 0, 0, 0},
+            {3, 0, 0, 4, 0, 0, 2, 0, 0},
+            {0, 5, 0, 1, 0, 0, 0, 0, 0},
+            {0, 0, 0, 8, 0, 6, 0, 0, 0}
+    };
+
+    final int[][] singlesBoard = {
+            {0, 0, 3, 0, 2, 0, 6, 0, 0},
+            {9, 0, 0, 3, 0, 5, 0, 0, 1},
+            {0, 0, 1, 8, 0, 6, 4, 0, 0},
+            {0, 0, 8, 1, 0, 2, 9, 0, 0},
+            {7, 0, 0, 0, 0, 0, 0, 0, 8},
+            {0, 0, 6, 7, 0, 8, 2, 0, 0},
+            {0, 0, 2, 6, 0, 9, 5, 0, 0},
+            {8, 0, 0, 2, 0, 3, 0, 0, 9},
+            {0, 0, 5, 0, 1, 0, 3, 0, 0}
+    };
+
     void setBoard(int[][] from, SudokuBoard to) {
         for (int r = 0; r < 9; r++) {
             for (int c = 0; c < 9; c++) {
@@ -5,4 +5,8 @@ public class FileSudokuGameDataDao extends FileDao<SudokuGameData> implements Da
     public FileSudokuGameDataDao(String directory) {
         super(directory);
     }
+
+    public FileSudokuGameDataDao(String directory, SudokuSolver sudokuSolver) {
+        super(directory, new SudokuGameDataCodec(sudokuSolver));
+    }
 }
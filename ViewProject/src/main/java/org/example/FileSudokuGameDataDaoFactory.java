@@ -1,7 +1,7 @@
 package org.example;
 
 public class FileSudokuGameDataDaoFactory {
-    public static Dao<SudokuGameData> getSudokuGameDataDao(String directory) {
-        return new FileSudokuGameDataDao(directory);
+    public static FileSudokuGameDataDao getSudokuGameDataDao(String directory) {
+        return new FileSudokuGameDataDao(directory, new ConstraintPropagationSudokuSolver());
     }
 }
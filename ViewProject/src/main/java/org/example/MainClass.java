@@ -13,6 +13,7 @@ import java.util.ResourceBundle;
 
 public class MainClass extends Application {
     private static final Logger logger = LogManager.getLogger(MainClass.class);
+    private SudokuPuzzlePool puzzlePool;
 
     @Override
     public void start(Stage primaryStage) {
@@ -23,6 +24,8 @@ public class MainClass extends Application {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/SudokuGame.fxml"));
             loader.setResources(bundle);
             Parent root = loader.load();
+            puzzlePool = new SudokuPuzzlePool(new ConstraintPropagationSudokuSolver(), 3);
+            loader.<SudokuController>getController().setPuzzlePool(puzzlePool);
 
             primaryStage.setTitle(bundle.getString("game_title"));
             primaryStage.setScene(new Scene(root));
@@ -32,6 +35,13 @@ public class MainClass extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        if (puzzlePool != null) {
+            puzzlePool.close();
+        }
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -39,6 +39,7 @@ public class SudokuController implements Initializable {
     @FXML
     private Button startButton;
     private static final Logger logger = LogManager.getLogger(SudokuController.class);
+    private SudokuPuzzlePool puzzlePool;
 
     @Override
     public void initialize(URL url, ResourceBundle resources) {
@@ -51,6 +52,10 @@ public class SudokuController implements Initializable {
         setupComboBoxes();
     }
 
+    public void setPuzzlePool(SudokuPuzzlePool puzzlePool) {
+        this.puzzlePool = puzzlePool;
+    }
+
     private void setupComboBoxes() {
         difficultyComboBox.setItems(FXCollections.observableArrayList(Difficulty.values()));
         difficultyComboBox.setConverter(new StringConverter<>() {
@@ -85,8 +90,10 @@ public class SudokuController implements Initializable {
             ResourceBundle bundle = ResourceBundle.getBundle("Messages", locale);
             updateListView(locale);
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/SudokuGame.fxml"), bundle);
+            Parent root = loader.load();
+            loader.<SudokuController>getController().setPuzzlePool(puzzlePool);
             Stage stage = (Stage) startButton.getScene().getWindow();
-            stage.setScene(new Scene(loader.load()));
+            stage.setScene(new Scene(root));
             stage.setTitle(bundle.getString("game_title"));
             stage.show();
         } catch (IOException e) {
@@ -127,7 +134,9 @@ public class SudokuController implements Initializable {
         if (file != null) {
             String path = file.getAbsolutePath();
             Locale locale;
-            try (Dao<SudokuGameData> dao = FileSudokuGameDataDaoFactory.getSudokuGameDataDao(file.getParent())) {
+            try (FileSudokuGameDataDao dao = FileSudokuGameDataDaoFactory.getSudokuGameDataDao(file.getParent())) {
+                // saves from older versions were written with Java serialization; convert them once, in place
+                dao.migrate(file.getName());
                 SudokuGameData sudokuGameData = dao.read(file.getName());
                 if (Objects.equals(sudokuGameData.getLanguage(), "ee")) {
                     locale = new Locale("ee", "EST");
@@ -137,7 +146,7 @@ public class SudokuController implements Initializable {
                 ResourceBundle passedLanguage = ResourceBundle.getBundle("Messages", locale);
                 System.out.println(sudokuGameData.getSudokuBoard());
                 System.out.println(sudokuGameData.getDifficulty());
-                loadGame(sudokuGameData.getSudokuBoard(), sudokuGameData.getDifficulty(), passedLanguage);
+                loadGame(sudokuGameData, passedLanguage);
                 logger.info("Loaded game from save file: " + path);
             } catch (Exception e) {
                 logger.error("Failed to load game from save file: " + path, e);
@@ -148,7 +157,8 @@ public class SudokuController implements Initializable {
         }
     }
 
-    private void loadGame(SudokuBoard sudokuBoard, Difficulty difficulty, ResourceBundle language) {
+    private void loadGame(SudokuGameData sudokuGameData, ResourceBundle language) {
+        Difficulty difficulty = sudokuGameData.getDifficulty();
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/SudokuPlay.fxml"), language);
             loader.setControllerFactory(clazz -> {
@@ -156,7 +166,8 @@ public class SudokuController implements Initializable {
                     SudokuPlayController controller = new SudokuPlayController();
                     controller.setResourceBundle(resourceBundle.getLocale().toString());
                     controller.setDifficulty(difficulty);
-                    controller.setSudokuBoard(sudokuBoard);
+                    controller.setSudokuBoard(sudokuGameData.getSudokuBoard());
+                    controller.setGivens(sudokuGameData.getGivens());
                     return controller;
                 }
                 try {
@@ -185,6 +196,7 @@ public class SudokuController implements Initializable {
                     SudokuPlayController controller = new SudokuPlayController();
                     controller.setResourceBundle(resourceBundle.getLocale().toString());
                     controller.setDifficulty(difficulty);
+                    controller.setSudokuBoard(puzzlePool.take(difficulty).getBoard());
                     return controller;
                 }
                 try {
@@ -1,5 +1,7 @@
 package org.example;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ResourceBundle;
 
@@ -9,6 +11,7 @@ public class SudokuGameData implements Serializable {
     private SudokuBoard sudokuBoard;
     private Difficulty difficulty;
     private String language;
+    private boolean[] givens;
 
     public String getLanguage() {
         return language;
@@ -19,9 +22,40 @@ public class SudokuGameData implements Serializable {
     }
 
     public SudokuGameData(SudokuBoard sudokuBoard, Difficulty difficulty, String language) {
+        this(sudokuBoard, difficulty, language, filledCells(sudokuBoard));
+    }
+
+    public SudokuGameData(SudokuBoard sudokuBoard, Difficulty difficulty, String language, boolean[] givens) {
         this.sudokuBoard = sudokuBoard;
         this.difficulty = difficulty;
         this.language = language;
+        this.givens = givens.clone();
+    }
+
+    private static boolean[] filledCells(SudokuBoard sudokuBoard) {
+        int size = sudokuBoard.getSize();
+        boolean[] filled = new boolean[size * size];
+        for (int cell = 0; cell < filled.length; cell++) {
+            filled[cell] = sudokuBoard.get(cell / size, cell % size) != 0;
+        }
+        return filled;
+    }
+
+    public boolean[] getGivens() {
+        return givens.clone();
+    }
+
+    public boolean isGiven(int row, int col) {
+        return givens[row * sudokuBoard.getSize() + col];
+    }
+
+    // Saves from before givens were tracked have none; locking every filled cell keeps their clues from being
+    // erased, at the price of also locking the moves made before saving.
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (givens == null) {
+            givens = filledCells(sudokuBoard);
+        }
     }
 
     // Getters and setters
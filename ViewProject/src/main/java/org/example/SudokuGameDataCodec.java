@@ -0,0 +1,71 @@
+package org.example;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+
+/**
+ * Versioned binary form of a saved game: difficulty and language, the board in {@link SudokuBoardCodec} form,
+ * and a bitmask of the given cells. A 9x9 save with its solution takes about a hundred bytes.
+ */
+public class SudokuGameDataCodec implements BinaryCodec<SudokuGameData> {
+    private static final Logger logger = LogManager.getLogger(SudokuGameDataCodec.class);
+    static final short MAGIC = 0x5347;
+    static final byte VERSION = 1;
+    private static final int NO_DIFFICULTY = -1;
+
+    private final SudokuBoardCodec boardCodec;
+
+    public SudokuGameDataCodec(SudokuSolver sudokuSolver) {
+        this.boardCodec = new SudokuBoardCodec(sudokuSolver);
+    }
+
+    @Override
+    public void write(DataOutput out, SudokuGameData gameData) throws IOException {
+        out.writeShort(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(gameData.getDifficulty() == null ? NO_DIFFICULTY : gameData.getDifficulty().ordinal());
+        out.writeUTF(gameData.getLanguage() == null ? "" : gameData.getLanguage());
+        boardCodec.write(out, gameData.getSudokuBoard());
+        boolean[] givens = gameData.getGivens();
+        byte[] mask = new byte[(givens.length + 7) / 8];
+        for (int cell = 0; cell < givens.length; cell++) {
+            if (givens[cell]) {
+                mask[cell / 8] |= (byte) (1 << cell % 8);
+            }
+        }
+        out.write(mask);
+    }
+
+    @Override
+    public SudokuGameData read(DataInput in) throws IOException {
+        if (in.readShort() != MAGIC) {
+            logger.error("Data does not start with a saved game header");
+            throw new StreamCorruptedException("Not an encoded saved game.");
+        }
+        int version = in.readByte();
+        if (version != VERSION) {
+            logger.error("Unsupported saved game version: " + version);
+            throw new StreamCorruptedException("Unsupported saved game version: " + version);
+        }
+        int difficultyIndex = in.readByte();
+        if (difficultyIndex < NO_DIFFICULTY || difficultyIndex >= Difficulty.values().length) {
+            logger.error("Saved game has unknown difficulty: " + difficultyIndex);
+            throw new StreamCorruptedException("Unknown difficulty: " + difficultyIndex);
+        }
+        String language = in.readUTF();
+        SudokuBoard board = boardCodec.read(in);
+        boolean[] givens = new boolean[board.getSize() * board.getSize()];
+        byte[] mask = new byte[(givens.length + 7) / 8];
+        in.readFully(mask);
+        for (int cell = 0; cell < givens.length; cell++) {
+            givens[cell] = (mask[cell / 8] & 1 << cell % 8) != 0;
+        }
+        Difficulty difficulty = difficultyIndex == NO_DIFFICULTY ? null : Difficulty.values()[difficultyIndex];
+        return new SudokuGameData(board, difficulty, language.isEmpty() ? null : language, givens);
+    }
+}
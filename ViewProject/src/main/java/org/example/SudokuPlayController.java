@@ -1,5 +1,6 @@
 package org.example;
 
+import javafx.application.Platform;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.fxml.FXML;
@@ -15,11 +16,23 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.File;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.UnaryOperator;
 
 public class SudokuPlayController implements Serializable {
     private static final Logger logger = LogManager.getLogger(SudokuPlayController.class);
+    private static final int SOLVABILITY_CACHE_SIZE = 4096;
+    private static final ExecutorService solvabilityExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sudoku-solvability-check");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @FXML
     private GridPane sudokuGrid;
@@ -27,20 +40,31 @@ public class SudokuPlayController implements Serializable {
     private SudokuBoard sudokuBoard;
     private String language;
     private Difficulty difficulty;
+    private boolean[] givens;
+    // Cells whose digits are accepted but not yet confirmed solvable; touched only on the FX thread.
+    private final transient List<TextField> pendingCells = new ArrayList<>();
+    private transient Future<?> pendingCheck;
+    private transient AtomicBoolean pendingCancelled;
+    // Set while a rejected digit is cleared, so the formatter does not schedule a second check.
+    private transient boolean clearingRejectedCell;
+    private transient long checkGeneration;
+    private transient CachingSudokuSolver solvabilityCache;
 
     public SudokuPlayController() {}
 
     public void initialize() {
         if (this.sudokuBoard == null) {
-            this.sudokuBoard = new SudokuBoard(new BacktrackingSudokuSolver());
-            sudokuBoard.initializeFields();
+            this.sudokuBoard = new SudokuBoard(new ConstraintPropagationSudokuSolver());
             sudokuBoard.solveGame();
             sudokuBoard.removeFields(difficulty);
-            initializer();
-        } else {
-            initializer();
         }
-        this.sudokuGameData = new SudokuGameData(this.sudokuBoard, difficulty, language);
+        // a fresh board has no givens yet, so its filled cells become the givens
+        this.sudokuGameData = givens == null
+                ? new SudokuGameData(this.sudokuBoard, difficulty, language)
+                : new SudokuGameData(this.sudokuBoard, difficulty, language, givens);
+        initializer();
+        // the bitmask solver stops as soon as a newer move cancels the check
+        this.solvabilityCache = new CachingSudokuSolver(new BitmaskSudokuSolver(), SOLVABILITY_CACHE_SIZE);
     }
 
     public void setResourceBundle(String resourceBundle) {
@@ -55,6 +79,10 @@ public class SudokuPlayController implements Serializable {
         this.sudokuBoard = sudokuBoard;
     }
 
+    public void setGivens(boolean[] givens) {
+        this.givens = givens;
+    }
+
     public void initializer() {
         for (int row = 0; row < 9; row++) {
             for (int col = 0; col < 9; col++) {
@@ -63,6 +91,9 @@ public class SudokuPlayController implements Serializable {
                 if (cell != null) {
                     bindBidirectional(value, cell);
                     addTextLimiter(cell, row, col);
+                    if (sudokuGameData.isGiven(row, col)) {
+                        cell.setEditable(false);
+                    }
                 }
             }
         }
@@ -117,6 +148,7 @@ public class SudokuPlayController implements Serializable {
                 }
 
                 String newText = change.getControlNewText();
+                pendingCells.remove(tf);
 
                 if (newText.equals("0")) {
                     tf.setStyle("-fx-background-color: lightcoral;");
@@ -127,6 +159,9 @@ public class SudokuPlayController implements Serializable {
                 // if is empty - ok
                 if (newText.trim().isEmpty()) {
                     sudokuBoard.set(row, col, 0);
+                    if (!pendingCells.isEmpty() && !clearingRejectedCell) {
+                        scheduleSolvabilityCheck();
+                    }
                     return change;
                 }
 
@@ -148,19 +183,76 @@ public class SudokuPlayController implements Serializable {
                     return null;
                 }
 
-                sudokuBoard.set(row, col, Integer.parseInt(change.getText()));
-                if (!sudokuBoard.solveable()) {
-                    tf.setStyle("-fx-background-color: lightcoral;");
-                    sudokuBoard.set(row, col, 0);
-                    return null;
+                // generated boards carry their solution, so the move can be judged without the solver
+                if (sudokuBoard.hasSolution()) {
+                    if (!sudokuBoard.isCorrectMove(row, col, newValue)) {
+                        tf.setStyle("-fx-background-color: lightcoral;");
+                        sudokuBoard.set(row, col, 0);
+                        return null;
+                    }
+                    sudokuBoard.set(row, col, Integer.parseInt(change.getText()));
+                    tf.setStyle("-fx-background-color: transparent;");
+                    tf.setEditable(false);
+                    return change;
                 }
+
+                sudokuBoard.set(row, col, Integer.parseInt(change.getText()));
                 tf.setStyle("-fx-background-color: transparent;");
-                tf.setEditable(false);
+                pendingCells.add(tf);
+                scheduleSolvabilityCheck();
                 return change;
             };
             tf.setTextFormatter(new TextFormatter<>(filter));
         }
 
+        private void scheduleSolvabilityCheck() {
+            if (pendingCheck != null) {
+                pendingCancelled.set(true);
+                pendingCheck.cancel(false);
+            }
+            long generation = ++checkGeneration;
+            SudokuBoard copy = sudokuBoard.clone();
+            CachingSudokuSolver cache = solvabilityCache;
+            AtomicBoolean cancelled = new AtomicBoolean();
+            pendingCancelled = cancelled;
+            pendingCheck = solvabilityExecutor.submit(() -> {
+                boolean solvable = cache.solvable(copy, cancelled);
+                if (!cancelled.get()) {
+                    Platform.runLater(() -> applySolvability(generation, solvable));
+                }
+            });
+        }
+
+        private void applySolvability(long generation, boolean solvable) {
+            if (generation != checkGeneration) {
+                return;
+            }
+            pendingCheck = null;
+            pendingCancelled = null;
+            if (pendingCells.isEmpty()) {
+                return;
+            }
+            if (solvable) {
+                for (TextField cell : pendingCells) {
+                    cell.setEditable(false);
+                }
+                pendingCells.clear();
+                return;
+            }
+            // Only the latest digit is known to be at fault; re-check whatever else is still pending.
+            TextField latest = pendingCells.remove(pendingCells.size() - 1);
+            clearingRejectedCell = true;
+            try {
+                latest.setText("");
+            } finally {
+                clearingRejectedCell = false;
+            }
+            latest.setStyle("-fx-background-color: lightcoral;");
+            if (!pendingCells.isEmpty()) {
+                scheduleSolvabilityCheck();
+            }
+        }
+
 
         @FXML
         protected void handleSaveGameAction() {
@@ -0,0 +1,59 @@
+import org.example.BitmaskSudokuSolver;
+import org.example.Difficulty;
+import org.example.SudokuBoard;
+import org.example.SudokuGameData;
+import org.example.SudokuGameDataCodec;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SudokuGameDataTests {
+
+    private SudokuBoard newPuzzle() {
+        SudokuBoard board = new SudokuBoard(new BitmaskSudokuSolver());
+        board.solveGame();
+        board.removeFields(Difficulty.MEDIUM);
+        return board;
+    }
+
+    @Test
+    public void freshGameTreatsItsCluesAsGivens() {
+        SudokuBoard board = newPuzzle();
+        SudokuGameData gameData = new SudokuGameData(board, Difficulty.MEDIUM, "en");
+
+        for (int row = 0; row < 9; row++) {
+            for (int col = 0; col < 9; col++) {
+                assertEquals(board.get(row, col) != 0, gameData.isGiven(row, col));
+            }
+        }
+    }
+
+    @Test
+    public void loadedGivensStayLockedAndMovesStayEditable() throws Exception {
+        SudokuBoard board = newPuzzle();
+        boolean[] givens = new SudokuGameData(board, Difficulty.MEDIUM, "en").getGivens();
+        SudokuBoard solved = board.clone();
+        solved.solveGame();
+        int move = 0;
+        while (givens[move]) {
+            move++;
+        }
+        board.set(move / 9, move % 9, solved.get(move / 9, move % 9));
+
+        SudokuGameDataCodec codec = new SudokuGameDataCodec(new BitmaskSudokuSolver());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        codec.write(new DataOutputStream(bytes), new SudokuGameData(board, Difficulty.MEDIUM, "en", givens));
+        SudokuGameData loaded = codec.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        for (int cell = 0; cell < 81; cell++) {
+            assertEquals(givens[cell], loaded.isGiven(cell / 9, cell % 9));
+        }
+        assertEquals(solved.get(move / 9, move % 9), loaded.getSudokuBoard().get(move / 9, move % 9));
+        assertFalse(loaded.isGiven(move / 9, move % 9));
+    }
+}
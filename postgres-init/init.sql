@@ -6,4 +6,27 @@ CREATE TABLE sudoku_board_field
     field_value INT CHECK (field_value BETWEEN 0 AND 9),
     sudoku_solver_name TEXT,
     UNIQUE (sudoku_board_name, field_row, field_column)
-);
\ No newline at end of file
+);
+
+-- One row per board: cells, given mask and solution packed as 81-character digit strings in row-major order.
+-- The given mask is NULL when nobody recorded which cells were clues.
+CREATE TABLE sudoku_board
+(
+    sudoku_board_name  TEXT PRIMARY KEY,
+    cells              CHAR(81) NOT NULL CHECK (cells ~ '^[0-9]{81}$'),
+    given_mask         CHAR(81) CHECK (given_mask ~ '^[01]{81}$'),
+    solution           CHAR(81) CHECK (solution ~ '^[1-9]{81}$'),
+    sudoku_solver_name TEXT NOT NULL,
+    updated_at         TIMESTAMP NOT NULL DEFAULT now()
+);
+
+-- Migration from the per-cell layout; boards missing any of their 81 rows are left behind. The per-cell layout
+-- never recorded givens or, for some rows, the solver, which then defaults to backtracking.
+INSERT INTO sudoku_board (sudoku_board_name, cells, sudoku_solver_name)
+SELECT sudoku_board_name,
+       string_agg(field_value::TEXT, '' ORDER BY field_row, field_column),
+       COALESCE(min(sudoku_solver_name), 'org.example.BacktrackingSudokuSolver')
+FROM sudoku_board_field
+GROUP BY sudoku_board_name
+HAVING count(*) = 81
+ON CONFLICT (sudoku_board_name) DO NOTHING;